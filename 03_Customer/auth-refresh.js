@@ -0,0 +1,49 @@
+/**
+ * 🔐 access token 자동 재발급
+ * - access token은 15분이라 API가 401/403을 주면 REFRESH_TOKEN 쿠키로 한 번 재발급받고 원래 요청을 다시 보냄
+ * - 동시에 여러 요청이 실패해도 재발급 요청은 한 번만
+ * - 재발급도 실패하면 원래 응답을 그대로 돌려줌 (각 화면의 checkAuthError가 로그인 페이지로 보냄)
+ * - fetch를 거치지 않는 EventSource(SSE)는 연결이 닫히면 window.refreshAccessToken()으로 재발급 후 다시 구독
+ */
+(function () {
+  const originalFetch = window.fetch.bind(window);
+  let refreshing = null;
+
+  function apiBase() {
+    return typeof baseUrl !== 'undefined' ? baseUrl : '';
+  }
+
+  function refreshAccessToken() {
+    if (!refreshing) {
+      refreshing = originalFetch(`${apiBase()}/api/v1/auth/refresh`, { method: 'POST', credentials: 'include' })
+        .then(res => {
+          if (!res.ok) return null;
+          const header = res.headers.get('Authorization');
+          const token = header && header.startsWith('Bearer ') ? header.substring(7) : null;
+          if (token) localStorage.setItem('accessToken', token);
+          return token;
+        })
+        .catch(() => null)
+        .finally(() => { refreshing = null; });
+    }
+    return refreshing;
+  }
+  window.refreshAccessToken = refreshAccessToken;
+
+  window.fetch = async function (input, init) {
+    const response = await originalFetch(input, init);
+    const url = typeof input === 'string' ? input : input.url;
+    if ((response.status !== 401 && response.status !== 403)
+        || url.includes('/api/v1/auth/')
+        || !localStorage.getItem('accessToken')) {
+      return response;
+    }
+
+    const token = await refreshAccessToken();
+    if (!token) return response;
+
+    const headers = new Headers((init && init.headers) || (input instanceof Request ? input.headers : undefined));
+    if (headers.has('Authorization')) headers.set('Authorization', `Bearer ${token}`);
+    return originalFetch(input, { ...(init || {}), headers, credentials: (init && init.credentials) || 'include' });
+  };
+})();
@@ -0,0 +1,9 @@
+package com.maejang.address.event;
+
+/**
+ * 배송지 생성/수정/삭제 이벤트
+ * - AddressService에서 발행, 커밋 이후(AFTER_COMMIT) 배달 가능 여부 캐시 갱신에 사용
+ * - 좌표가 없으면(삭제 포함) 해당 주소의 캐시를 비움
+ */
+public record AddressChangedEvent(Long addressId, Double latitude, Double longitude) {
+}
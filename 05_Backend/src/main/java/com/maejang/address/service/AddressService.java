@@ -3,6 +3,7 @@ package com.maejang.address.service;
 import com.maejang.address.dto.request.AddressCreateRequest;
 import com.maejang.address.dto.request.AddressUpdateRequest;
 import com.maejang.address.domain.Address;
+import com.maejang.address.event.AddressChangedEvent;
 import com.maejang.address.repository.AddressRepository;
 import com.maejang.global.exception.CustomException;
 import com.maejang.global.exception.ErrorCode;
@@ -10,6 +11,7 @@ import com.maejang.user.domain.User;
 import com.maejang.user.repository.UserRepository;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -19,6 +21,7 @@ public class AddressService {
 
     private final AddressRepository addressRepository;
     private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public Long create(Long userId, AddressCreateRequest req) {
@@ -37,7 +40,9 @@ public class AddressService {
                 .longitude(req.longitude())
                 .build();
 
-        return addressRepository.save(address).getAddressId();
+        Long addressId = addressRepository.save(address).getAddressId();
+        eventPublisher.publishEvent(new AddressChangedEvent(addressId, address.getLatitude(), address.getLongitude()));
+        return addressId;
     }
 
     @Transactional(readOnly = true)
@@ -57,6 +62,7 @@ public class AddressService {
 
         // 부분 수정: null이면 변경하지 않음
         address.updatePartial(req.name(), req.address(), req.latitude(), req.longitude());
+        eventPublisher.publishEvent(new AddressChangedEvent(addressId, address.getLatitude(), address.getLongitude()));
     }
 
     @Transactional
@@ -67,6 +73,7 @@ public class AddressService {
             throw new CustomException(ErrorCode.FORBIDDEN);
         }
         addressRepository.delete(address);
+        eventPublisher.publishEvent(new AddressChangedEvent(addressId, null, null));
     }
 
     /**
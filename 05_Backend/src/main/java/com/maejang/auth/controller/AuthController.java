@@ -3,15 +3,20 @@ package com.maejang.auth.controller;
 import com.maejang.auth.jwt.JwtProperties;
 import com.maejang.auth.security.CustomUserDetails;
 import com.maejang.auth.service.AuthService;
+import com.maejang.auth.service.IssuedTokens;
 import com.maejang.global.response.JSONResponse;
 import com.maejang.user.dto.request.UserLoginRequest;
 import io.swagger.v3.oas.annotations.Operation;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
+import java.time.Duration;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseCookie;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.CookieValue;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -30,39 +35,58 @@ public class AuthController {
         return ResponseEntity.ok(JSONResponse.success(new AuthMeResponse(principal.getUserId(), principal.getUsername(), principal.getRole())));
     }
 
-    @Operation(summary = "로그인", description = "응답 헤더 Authorization: Bearer <token> 으로 토큰을 내려줍니다. (Swagger에서 복사해서 Authorize에 붙여넣어 사용)")
+    @Operation(summary = "로그인", description = "응답 헤더 Authorization: Bearer <token> 으로 access token(15분)을 내려줍니다. (Swagger에서 복사해서 Authorize에 붙여넣어 사용) refresh token은 httpOnly 쿠키로 내려갑니다.")
     @PostMapping("/login")
-    public ResponseEntity<JSONResponse<Void>> login(@Valid @RequestBody UserLoginRequest req) {
-        String token = authService.loginAndIssueToken(req.email(), req.password());
+    public ResponseEntity<JSONResponse<Void>> login(@Valid @RequestBody UserLoginRequest req, HttpServletRequest request) {
+        return issued(authService.loginAndIssueToken(req.email(), req.password(), request.getRemoteAddr()));
+    }
+
+    @Operation(summary = "토큰 재발급", description = "REFRESH_TOKEN 쿠키로 access/refresh token을 새로 발급합니다. 사용한 refresh token은 폐기되며, 폐기된 토큰을 다시 쓰면 해당 사용자의 토큰이 모두 폐기됩니다.")
+    @PostMapping("/refresh")
+    public ResponseEntity<JSONResponse<Void>> refresh(
+            @CookieValue(value = JwtProperties.REFRESH_COOKIE_NAME, required = false) String refreshToken
+    ) {
+        return issued(authService.refresh(refreshToken));
+    }
 
-        ResponseCookie cookie = ResponseCookie.from(JwtProperties.COOKIE_NAME, token)
+    @Operation(summary = "로그아웃", description = "현재 access token과 refresh token을 폐기하고 쿠키를 만료시킵니다.")
+    @PostMapping("/logout")
+    public ResponseEntity<JSONResponse<Void>> logout(
+            Authentication authentication,
+            @CookieValue(value = JwtProperties.REFRESH_COOKIE_NAME, required = false) String refreshToken
+    ) {
+        authService.logout(authentication, refreshToken);
+        return ResponseEntity.ok()
+                .header(HttpHeaders.SET_COOKIE, accessCookie("", Duration.ZERO).toString())
+                .header(HttpHeaders.SET_COOKIE, refreshCookie("", Duration.ZERO).toString())
+                .body(JSONResponse.success(null));
+    }
+
+    private ResponseEntity<JSONResponse<Void>> issued(IssuedTokens tokens) {
+        return ResponseEntity.ok()
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + tokens.accessToken())
+                .header(HttpHeaders.SET_COOKIE, accessCookie(tokens.accessToken(), JwtProperties.ACCESS_TOKEN_TTL).toString())
+                .header(HttpHeaders.SET_COOKIE, refreshCookie(tokens.refreshToken(), JwtProperties.REFRESH_TOKEN_TTL).toString())
+                .body(JSONResponse.success(null));
+    }
+
+    private ResponseCookie accessCookie(String value, Duration maxAge) {
+        return ResponseCookie.from(JwtProperties.COOKIE_NAME, value)
                 .httpOnly(true)
                 .secure(false) // 로컬 개발: false, 배포(HTTPS): true
                 .path("/")
-                .maxAge(JwtProperties.ACCESS_TOKEN_TTL)
+                .maxAge(maxAge)
                 .sameSite("Lax")
                 .build();
-
-        return ResponseEntity.ok()
-                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
-                .header(HttpHeaders.SET_COOKIE, cookie.toString())
-                .body(JSONResponse.success(null));
     }
 
-    @Operation(summary = "로그아웃(쿠키 삭제)", description = "ACCESS_TOKEN 쿠키를 만료시킵니다.")
-    @PostMapping("/logout")
-    public ResponseEntity<JSONResponse<Void>> logout() {
-        ResponseCookie cookie = ResponseCookie.from(JwtProperties.COOKIE_NAME, "")
+    private ResponseCookie refreshCookie(String value, Duration maxAge) {
+        return ResponseCookie.from(JwtProperties.REFRESH_COOKIE_NAME, value)
                 .httpOnly(true)
                 .secure(false)
-                .path("/")
-                .maxAge(0)
+                .path(JwtProperties.REFRESH_COOKIE_PATH)
+                .maxAge(maxAge)
                 .sameSite("Lax")
                 .build();
-        return ResponseEntity.ok()
-                .header(HttpHeaders.SET_COOKIE, cookie.toString())
-                .body(JSONResponse.success(null));
     }
 }
-
-
@@ -1,8 +1,5 @@
 package com.maejang.auth.jwt;
 
-import com.maejang.auth.security.CustomUserDetails;
-import com.maejang.user.domain.UserRole;
-import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.Cookie;
@@ -10,17 +7,17 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
 import org.springframework.http.HttpHeaders;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtTokenProvider tokenProvider;
+    private final RevokedTokenRegistry revokedTokens;
 
-    public JwtAuthenticationFilter(JwtTokenProvider tokenProvider) {
+    public JwtAuthenticationFilter(JwtTokenProvider tokenProvider, RevokedTokenRegistry revokedTokens) {
         this.tokenProvider = tokenProvider;
+        this.revokedTokens = revokedTokens;
     }
 
     @Override
@@ -34,18 +31,13 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         }
         if (token != null && SecurityContextHolder.getContext().getAuthentication() == null) {
             try {
-                Claims claims = tokenProvider.parseClaims(token);
-                Long userId = tokenProvider.getUserId(claims);
-                String email = claims.getSubject();
-                UserRole role = tokenProvider.getRole(claims);
-
-                // DB 조회 없이 principal 구성 (토큰 claim 기반)
-                CustomUserDetails principal = new CustomUserDetails(userId, email, "", role);
-
-                UsernamePasswordAuthenticationToken auth =
-                        new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities());
-                auth.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-                SecurityContextHolder.getContext().setAuthentication(auth);
+                // 같은 토큰이면 검증 캐시에서 바로 반환 (서명 검증/JSON 파싱 생략)
+                // Authentication도 토큰 단위로 재사용 (principal/권한 목록/details 객체를 요청마다 만들지 않음)
+                VerifiedToken verified = tokenProvider.verify(token);
+                // 로그아웃/탈취 감지로 폐기된 토큰은 인증하지 않음 (메모리 조회, DB X)
+                if (!revokedTokens.isRevoked(verified)) {
+                    SecurityContextHolder.getContext().setAuthentication(verified.authentication());
+                }
             } catch (Exception ignored) {
                 // 토큰이 잘못된 경우: 인증 없이 다음 필터로 (401은 보호 리소스에서 발생)
             }
@@ -6,7 +6,15 @@ public final class JwtProperties {
     private JwtProperties() {}
 
     public static final String COOKIE_NAME = "ACCESS_TOKEN";
-    public static final Duration ACCESS_TOKEN_TTL = Duration.ofHours(6);
+    // 탈취 시 노출 시간을 줄이기 위해 짧게, 만료되면 refresh token으로 재발급
+    public static final Duration ACCESS_TOKEN_TTL = Duration.ofMinutes(15);
+
+    public static final String REFRESH_COOKIE_NAME = "REFRESH_TOKEN";
+    // refresh token 쿠키는 재발급/로그아웃 요청에만 실려가도록 경로 제한
+    public static final String REFRESH_COOKIE_PATH = "/api/v1/auth";
+    public static final Duration REFRESH_TOKEN_TTL = Duration.ofDays(14);
+    // 회전 직후 같은 refresh token이 다시 오면(탭 여러 개가 동시에 재발급) 탈취가 아니라 같은 결과를 돌려주는 시간
+    public static final Duration REFRESH_REUSE_GRACE = Duration.ofSeconds(5);
 }
 
 
@@ -1,12 +1,18 @@
 package com.maejang.auth.jwt;
 
+import com.maejang.auth.security.CustomUserDetails;
+import com.maejang.auth.security.JwtAuthentication;
 import com.maejang.user.domain.UserRole;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 import java.nio.charset.StandardCharsets;
 import java.time.Instant;
 import java.util.Date;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import javax.crypto.SecretKey;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
@@ -14,13 +20,21 @@ import org.springframework.stereotype.Component;
 @Component
 public class JwtTokenProvider {
 
+    // 검증 캐시 최대 크기 (넘으면 만료된 것부터 정리, 그래도 가득이면 비움)
+    private static final int MAX_VERIFIED_TOKENS = 10_000;
+
     private final SecretKey key;
+    // JwtParser는 불변/thread-safe -> 요청마다 새로 만들지 않음
+    private final JwtParser parser;
+    // 같은 토큰으로 반복되는 요청은 서명 검증/Base64/JSON 파싱 생략 (토큰 문자열 전체가 키라 충돌 없음)
+    private final Map<String, VerifiedToken> verified = new ConcurrentHashMap<>();
 
     public JwtTokenProvider(@Value("${JWT_SECRET:}") String secret) {
         if (secret == null || secret.isBlank()) {
             throw new IllegalStateException("JWT_SECRET 환경변수가 필요합니다.");
         }
         this.key = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        this.parser = Jwts.parser().verifyWith(key).build();
     }
 
     public String createAccessToken(Long userId, String email, UserRole role) {
@@ -28,6 +42,7 @@ public class JwtTokenProvider {
         Instant exp = now.plus(JwtProperties.ACCESS_TOKEN_TTL);
 
         return Jwts.builder()
+                .id(UUID.randomUUID().toString())
                 .subject(email)
                 .issuedAt(Date.from(now))
                 .expiration(Date.from(exp))
@@ -38,11 +53,41 @@ public class JwtTokenProvider {
     }
 
     public Claims parseClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(key)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+        return parser.parseSignedClaims(token).getPayload();
+    }
+
+    /**
+     * 서명/만료 검증 후 claim 반환 (검증된 토큰은 exp까지 캐시)
+     * @throws io.jsonwebtoken.JwtException 유효하지 않거나 만료된 토큰
+     */
+    public VerifiedToken verify(String token) {
+        long now = System.currentTimeMillis();
+        VerifiedToken cached = verified.get(token);
+        if (cached != null) {
+            if (!cached.isExpired(now)) {
+                return cached;
+            }
+            verified.remove(token);
+        }
+
+        Claims claims = parseClaims(token);
+        Long userId = getUserId(claims);
+        String email = claims.getSubject();
+        UserRole role = getRole(claims);
+        // DB 조회 없이 principal 구성 (토큰 claim 기반)
+        long expiresAt = claims.getExpiration().getTime();
+        JwtAuthentication authentication =
+                new JwtAuthentication(new CustomUserDetails(userId, email, "", role), claims.getId(), expiresAt);
+        VerifiedToken result = new VerifiedToken(claims.getId(), userId, email, role,
+                claims.getIssuedAt() == null ? 0L : claims.getIssuedAt().getTime(), expiresAt, authentication);
+        if (verified.size() >= MAX_VERIFIED_TOKENS) {
+            verified.values().removeIf(v -> v.isExpired(now));
+            if (verified.size() >= MAX_VERIFIED_TOKENS) {
+                verified.clear();
+            }
+        }
+        verified.put(token, result);
+        return result;
     }
 
     public Long getUserId(Claims claims) {
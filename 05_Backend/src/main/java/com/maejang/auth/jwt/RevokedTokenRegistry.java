@@ -0,0 +1,63 @@
+package com.maejang.auth.jwt;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 폐기된 access token (메모리, 요청마다 DB 조회 없이 O(1) 확인)
+ * - jti는 토큰 만료 시각의 분 단위 bucket에 보관 -> 만료된 bucket은 통째로 버림 (access token이 짧아서 크기가 작게 유지됨)
+ * - 사용자 단위 폐기(refresh token 재사용 감지 등)는 "이 시각 이전에 발급된 토큰은 무효"로 기록
+ */
+@Component
+public class RevokedTokenRegistry {
+
+    private static final long BUCKET_MILLIS = 60_000L;
+
+    // 만료 시각(분) -> 폐기된 jti
+    private final Map<Long, Set<String>> buckets = new ConcurrentHashMap<>();
+    // userId -> 이 시각(초 단위 올림) 이전에 발급된 access token은 무효
+    private final Map<Long, Long> notBefore = new ConcurrentHashMap<>();
+
+    public void revoke(String tokenId, long expiresAtMillis) {
+        if (tokenId == null || expiresAtMillis <= System.currentTimeMillis()) {
+            return;
+        }
+        buckets.computeIfAbsent(bucketOf(expiresAtMillis), k -> ConcurrentHashMap.newKeySet()).add(tokenId);
+    }
+
+    /**
+     * iat는 초 단위라 폐기 시점과 같은 초에 발급된 토큰은 폐기 전/후를 구분할 수 없음
+     * -> 다음 초로 올려서 같은 초의 토큰까지 무효 (탈취 토큰이 남는 쪽보다 그 초에 재로그인한 토큰이 막히는 쪽이 안전)
+     */
+    public void revokeAllIssuedBefore(Long userId, long nowMillis) {
+        notBefore.merge(userId, (Math.floorDiv(nowMillis, 1000L) + 1) * 1000, Math::max);
+    }
+
+    public boolean isRevoked(VerifiedToken token) {
+        Long before = notBefore.get(token.userId());
+        if (before != null && token.issuedAtMillis() < before) {
+            return true;
+        }
+        if (token.tokenId() == null) {
+            return false;
+        }
+        Set<String> bucket = buckets.get(bucketOf(token.expiresAtMillis()));
+        return bucket != null && bucket.contains(token.tokenId());
+    }
+
+    @Scheduled(fixedDelay = 60_000)
+    public void evictExpired() {
+        long now = System.currentTimeMillis();
+        buckets.keySet().removeIf(bucket -> (bucket + 1) * BUCKET_MILLIS <= now);
+        // 기록 이후 발급 가능했던 가장 오래된 토큰도 만료되었으면 필요 없음
+        long ttl = JwtProperties.ACCESS_TOKEN_TTL.toMillis();
+        notBefore.values().removeIf(before -> before + ttl <= now);
+    }
+
+    private static long bucketOf(long expiresAtMillis) {
+        return expiresAtMillis / BUCKET_MILLIS;
+    }
+}
@@ -0,0 +1,21 @@
+package com.maejang.auth.jwt;
+
+import com.maejang.auth.security.JwtAuthentication;
+import com.maejang.user.domain.UserRole;
+
+/**
+ * 서명 검증이 끝난 access token의 claim (검증 캐시에 보관)
+ */
+public record VerifiedToken(
+        String tokenId, // jti (이전 버전 토큰은 null)
+        Long userId,
+        String email,
+        UserRole role,
+        long issuedAtMillis,
+        long expiresAtMillis,
+        JwtAuthentication authentication // 요청마다 SecurityContext에 그대로 넣는 불변 객체
+) {
+    public boolean isExpired(long now) {
+        return expiresAtMillis <= now;
+    }
+}
@@ -0,0 +1,64 @@
+package com.maejang.auth.security;
+
+import java.util.Arrays;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+/**
+ * BCrypt cost 권장값 계산 (적용은 하지 않고 로그만 남김)
+ * - 현재 인스턴스에서 cost 10 해시 시간을 재고, 목표 시간(targetMillis)을 넘지 않는 가장 큰 cost를 고름
+ * - cost가 1 오를 때마다 시간은 2배
+ * - 인스턴스마다 다른 cost를 쓰지 않도록 실제 cost는 설정(auth.password-hash.bcrypt-strength)으로 고정
+ *   (upgradeEncoding은 cost를 올리기만 해서, 한 번 높게 저장된 해시는 내려가지 않음)
+ */
+@Slf4j
+public final class BCryptStrengthCalibrator {
+
+    static final int MIN_STRENGTH = 10;
+    static final int MAX_STRENGTH = 14;
+
+    private static final int BASE_STRENGTH = 10;
+    private static final int WARM_UP = 2;
+    private static final int SAMPLES = 9;
+    private static final String SAMPLE_PASSWORD = "calibration-sample";
+
+    private BCryptStrengthCalibrator() {
+    }
+
+    /**
+     * JIT warm-up 후 여러 번 재서 중앙값 사용 (기동 중 다른 초기화와 겹친 측정값에 덜 흔들리도록)
+     * @return 권장 cost
+     */
+    public static int recommend(long targetMillis, int configuredStrength) {
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(BASE_STRENGTH);
+        for (int i = 0; i < WARM_UP; i++) {
+            encoder.encode(SAMPLE_PASSWORD);
+        }
+
+        long[] samples = new long[SAMPLES];
+        for (int i = 0; i < SAMPLES; i++) {
+            long start = System.nanoTime();
+            encoder.encode(SAMPLE_PASSWORD);
+            samples[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(samples);
+
+        double baseMillis = samples[SAMPLES / 2] / 1_000_000.0;
+        int strength = strengthFor(baseMillis, targetMillis);
+        log.info("BCrypt 권장 cost {} (cost {} 중앙값 {}ms, 목표 {}ms), 현재 설정 {}",
+                strength, BASE_STRENGTH, String.format("%.1f", baseMillis), targetMillis, configuredStrength);
+        return strength;
+    }
+
+    /**
+     * @return MIN_STRENGTH~MAX_STRENGTH 중 예상 시간이 targetMillis 이하인 가장 큰 cost (최소 MIN_STRENGTH)
+     */
+    static int strengthFor(double baseMillis, long targetMillis) {
+        int strength = MIN_STRENGTH;
+        while (strength < MAX_STRENGTH
+                && baseMillis * (1L << (strength + 1 - BASE_STRENGTH)) <= targetMillis) {
+            strength++;
+        }
+        return strength;
+    }
+}
@@ -3,13 +3,24 @@ package com.maejang.auth.security;
 import com.maejang.user.domain.User;
 import com.maejang.user.domain.UserRole;
 import java.util.Collection;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 
 public class CustomUserDetails implements UserDetails {
 
+    // role별 권한 목록은 불변이므로 미리 만들어 공유 (인스턴스마다 새로 만들지 않음)
+    private static final Map<UserRole, List<GrantedAuthority>> AUTHORITIES = new EnumMap<>(UserRole.class);
+
+    static {
+        for (UserRole role : UserRole.values()) {
+            AUTHORITIES.put(role, List.of(new SimpleGrantedAuthority("ROLE_" + role.name())));
+        }
+    }
+
     private final Long userId;
     private final String email;
     private final String password;
@@ -22,7 +33,7 @@ public class CustomUserDetails implements UserDetails {
         this.password = user.getPassword();
         // Role이 null이면 CUSTOMER로 기본 설정 (NPE 방지)
         this.role = user.getRole() != null ? user.getRole() : UserRole.CUSTOMER;
-        this.authorities = List.of(new SimpleGrantedAuthority("ROLE_" + this.role.name()));
+        this.authorities = AUTHORITIES.get(this.role);
     }
 
     public CustomUserDetails(Long userId, String email, String password, UserRole role) {
@@ -30,7 +41,7 @@ public class CustomUserDetails implements UserDetails {
         this.email = email;
         this.password = password;
         this.role = role;
-        this.authorities = List.of(new SimpleGrantedAuthority("ROLE_" + role.name()));
+        this.authorities = AUTHORITIES.get(role);
     }
 
     public Long getUserId() {
@@ -6,13 +6,15 @@ import com.maejang.user.domain.User;
 import com.maejang.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @RequiredArgsConstructor
 @Service
-public class CustomUserDetailsService implements UserDetailsService {
+public class CustomUserDetailsService implements UserDetailsService, UserDetailsPasswordService {
 
     private final UserRepository userRepository;
 
@@ -22,6 +24,18 @@ public class CustomUserDetailsService implements UserDetailsService {
                 .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
         return new CustomUserDetails(user);
     }
+
+    /**
+     * 로그인 성공 후 더 강한 해시로 교체 (DelegatingPasswordEncoder.upgradeEncoding 기준)
+     */
+    @Override
+    @Transactional
+    public UserDetails updatePassword(UserDetails details, String newEncodedPassword) {
+        User user = userRepository.findByEmail(details.getUsername())
+                .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
+        user.updatePassword(newEncodedPassword);
+        return new CustomUserDetails(user);
+    }
 }
 
 
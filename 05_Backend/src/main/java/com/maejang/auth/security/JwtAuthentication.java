@@ -0,0 +1,71 @@
+package com.maejang.auth.security;
+
+import java.util.Collection;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+
+/**
+ * JWT로 인증된 요청의 Authentication (불변)
+ * - 검증된 토큰마다 한 번 만들어 토큰 만료까지 재사용 (요청마다 새 객체 X)
+ * - credentials/details는 사용하지 않으므로 null
+ */
+public final class JwtAuthentication implements Authentication {
+
+    private final CustomUserDetails principal;
+    private final String tokenId;
+    private final long expiresAtMillis;
+
+    public JwtAuthentication(CustomUserDetails principal, String tokenId, long expiresAtMillis) {
+        this.principal = principal;
+        this.tokenId = tokenId;
+        this.expiresAtMillis = expiresAtMillis;
+    }
+
+    /**
+     * 인증에 사용된 access token의 jti (로그아웃 시 폐기용)
+     */
+    public String getTokenId() {
+        return tokenId;
+    }
+
+    public long getExpiresAtMillis() {
+        return expiresAtMillis;
+    }
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return principal.getAuthorities();
+    }
+
+    @Override
+    public Object getCredentials() {
+        return null;
+    }
+
+    @Override
+    public Object getDetails() {
+        return null;
+    }
+
+    @Override
+    public CustomUserDetails getPrincipal() {
+        return principal;
+    }
+
+    @Override
+    public boolean isAuthenticated() {
+        return true;
+    }
+
+    @Override
+    public void setAuthenticated(boolean isAuthenticated) {
+        if (!isAuthenticated) {
+            throw new IllegalArgumentException("JwtAuthentication은 변경할 수 없습니다.");
+        }
+    }
+
+    @Override
+    public String getName() {
+        return principal.getUsername();
+    }
+}
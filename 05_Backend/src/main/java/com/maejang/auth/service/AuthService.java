@@ -1,12 +1,31 @@
 package com.maejang.auth.service;
 
+import com.maejang.auth.domain.RefreshToken;
+import com.maejang.auth.jwt.JwtProperties;
 import com.maejang.auth.jwt.JwtTokenProvider;
+import com.maejang.auth.jwt.RevokedTokenRegistry;
+import com.maejang.auth.repository.RefreshTokenRepository;
+import com.maejang.auth.security.JwtAuthentication;
 import com.maejang.global.exception.CustomException;
 import com.maejang.global.exception.ErrorCode;
 import com.maejang.user.domain.User;
 import com.maejang.user.repository.UserRepository;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -14,21 +33,137 @@ import org.springframework.transaction.annotation.Transactional;
 @Service
 public class AuthService {
 
+    private static final SecureRandom RANDOM = new SecureRandom();
+
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final LoginAuthenticator loginAuthenticator;
     private final JwtTokenProvider jwtTokenProvider;
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final RevokedTokenRegistry revokedTokenRegistry;
+
+    // 방금 회전한 refresh token hash -> 새로 발급한 토큰 (동시에 재발급한 다른 탭에 같은 결과를 돌려줌)
+    private final Map<String, Rotation> recentRotations = new ConcurrentHashMap<>();
+
+    private record Rotation(CompletableFuture<IssuedTokens> successor, long rotatedAtMillis) {
+        boolean withinGrace(long nowMillis) {
+            return nowMillis - rotatedAtMillis <= JwtProperties.REFRESH_REUSE_GRACE.toMillis();
+        }
+    }
+
+    /**
+     * 트랜잭션 없이 실행: BCrypt 비교(~100ms) 동안 DB 커넥션을 잡고 있지 않도록 조회/저장은 각각 짧게 처리
+     */
+    public IssuedTokens loginAndIssueToken(String email, String rawPassword, String clientIp) {
+        return issue(loginAuthenticator.authenticate(email, rawPassword, clientIp));
+    }
 
-    @Transactional(readOnly = true)
-    public String loginAndIssueToken(String email, String rawPassword) {
-        User user = userRepository.findByEmail(email)
+    /**
+     * refresh token 회전: 받은 토큰은 폐기하고 access/refresh를 새로 발급
+     * - 회전 후 REFRESH_REUSE_GRACE 안에 같은 토큰이 다시 오면 (탭 여러 개의 동시 재발급) 그때 발급한 토큰을 그대로 반환
+     * - 그 이후 폐기된 토큰이 다시 오면 탈취로 보고 사용자의 refresh token 전부 + 기존 access token까지 폐기
+     */
+    @Transactional(noRollbackFor = CustomException.class)
+    public IssuedTokens refresh(String rawRefreshToken) {
+        if (rawRefreshToken == null || rawRefreshToken.isBlank()) {
+            throw new CustomException(ErrorCode.INVALID_TOKEN);
+        }
+        String tokenHash = hash(rawRefreshToken);
+        RefreshToken token = refreshTokenRepository.findByTokenHash(tokenHash)
+                .orElseThrow(() -> new CustomException(ErrorCode.INVALID_TOKEN));
+
+        LocalDateTime now = LocalDateTime.now();
+        // 동시에 온 요청은 먼저 폐기한 쪽이 커밋할 때까지 revoke UPDATE에서 기다림 -> 0이면 recentRotations에 이미 기록됨
+        if (token.getRevokedAt() != null || refreshTokenRepository.revoke(token.getId(), now) == 0) {
+            Rotation rotation = recentRotations.get(tokenHash);
+            if (rotation != null && rotation.withinGrace(System.currentTimeMillis())) {
+                return awaitSuccessor(rotation);
+            }
+            refreshTokenRepository.revokeAllByUserId(token.getUserId(), now);
+            revokedTokenRegistry.revokeAllIssuedBefore(token.getUserId(), System.currentTimeMillis());
+            throw new CustomException(ErrorCode.INVALID_TOKEN);
+        }
+        if (token.getExpiresAt().isBefore(now)) {
+            throw new CustomException(ErrorCode.EXPIRED_TOKEN);
+        }
+
+        User user = userRepository.findById(token.getUserId())
                 .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
+        Rotation rotation = new Rotation(new CompletableFuture<>(), System.currentTimeMillis());
+        recentRotations.put(tokenHash, rotation);
+        try {
+            IssuedTokens issued = issue(user);
+            rotation.successor().complete(issued);
+            return issued;
+        } catch (RuntimeException e) {
+            rotation.successor().completeExceptionally(e);
+            recentRotations.remove(tokenHash, rotation);
+            throw e;
+        }
+    }
 
-        if (!passwordEncoder.matches(rawPassword, user.getPassword())) {
-            throw new CustomException(ErrorCode.INVALID_USER_INFO);
+    /**
+     * 유예 시간 안의 재사용은 탈취로 보지 않음 (먼저 온 요청의 발급이 실패했으면 재로그인 필요)
+     */
+    private static IssuedTokens awaitSuccessor(Rotation rotation) {
+        try {
+            return rotation.successor().get(JwtProperties.REFRESH_REUSE_GRACE.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CustomException(ErrorCode.INVALID_TOKEN);
+        } catch (ExecutionException | TimeoutException e) {
+            throw new CustomException(ErrorCode.INVALID_TOKEN);
         }
+    }
 
-        return jwtTokenProvider.createAccessToken(user.getId(), user.getEmail(), user.getRole());
+    /**
+     * 현재 access token(jti)과 refresh token 폐기 (둘 다 없어도 성공)
+     */
+    @Transactional
+    public void logout(Authentication authentication, String rawRefreshToken) {
+        if (authentication instanceof JwtAuthentication jwt) {
+            revokedTokenRegistry.revoke(jwt.getTokenId(), jwt.getExpiresAtMillis());
+        }
+        if (rawRefreshToken != null && !rawRefreshToken.isBlank()) {
+            refreshTokenRepository.findByTokenHash(hash(rawRefreshToken))
+                    .ifPresent(t -> refreshTokenRepository.revoke(t.getId(), LocalDateTime.now()));
+        }
     }
-}
 
+    @Transactional
+    @Scheduled(fixedDelay = 24 * 60 * 60_000)
+    public void purgeExpiredRefreshTokens() {
+        refreshTokenRepository.deleteExpiredBefore(LocalDateTime.now());
+    }
+
+    @Scheduled(fixedDelay = 60_000)
+    public void evictRecentRotations() {
+        long now = System.currentTimeMillis();
+        recentRotations.values().removeIf(rotation -> !rotation.withinGrace(now));
+    }
+
+    private IssuedTokens issue(User user) {
+        String accessToken = jwtTokenProvider.createAccessToken(user.getId(), user.getEmail(), user.getRole());
+
+        byte[] bytes = new byte[32];
+        RANDOM.nextBytes(bytes);
+        String refreshToken = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+        LocalDateTime now = LocalDateTime.now();
+        refreshTokenRepository.save(RefreshToken.builder()
+                .userId(user.getId())
+                .tokenHash(hash(refreshToken))
+                .createdAt(now)
+                .expiresAt(now.plus(JwtProperties.REFRESH_TOKEN_TTL))
+                .build());
+
+        return new IssuedTokens(accessToken, refreshToken);
+    }
 
+    private static String hash(String raw) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(raw.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
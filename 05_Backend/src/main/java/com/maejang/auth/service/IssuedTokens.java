@@ -0,0 +1,7 @@
+package com.maejang.auth.service;
+
+/**
+ * 로그인/재발급 결과 (access token은 헤더+쿠키, refresh token은 httpOnly 쿠키로 내려감)
+ */
+public record IssuedTokens(String accessToken, String refreshToken) {
+}
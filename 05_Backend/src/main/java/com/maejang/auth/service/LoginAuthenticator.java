@@ -0,0 +1,43 @@
+package com.maejang.auth.service;
+
+import com.maejang.auth.security.CustomUserDetails;
+import com.maejang.global.exception.CustomException;
+import com.maejang.global.exception.ErrorCode;
+import com.maejang.user.domain.User;
+import com.maejang.user.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
+import org.springframework.stereotype.Component;
+
+/**
+ * 이메일/비밀번호 확인 (/api/v1/auth/login, /api/v1/users/login 공용)
+ * - 시도 제한 → 사용자 조회 → 해시 비교 순서
+ * - 비교에 성공했고 저장된 해시가 현재 기준(알고리즘 / BCrypt cost)보다 약하면 백그라운드에서 다시 해시해 저장
+ */
+@RequiredArgsConstructor
+@Component
+public class LoginAuthenticator {
+
+    private final UserRepository userRepository;
+    private final LoginThrottle loginThrottle;
+    private final PasswordHashExecutor passwordHashExecutor;
+    private final UserDetailsPasswordService userDetailsPasswordService;
+
+    public User authenticate(String email, String rawPassword, String clientIp) {
+        loginThrottle.check(email, clientIp);
+
+        User user = userRepository.findByEmail(email)
+                .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
+
+        if (!passwordHashExecutor.matches(rawPassword, user.getPassword())) {
+            throw new CustomException(ErrorCode.INVALID_USER_INFO);
+        }
+
+        if (passwordHashExecutor.needsUpgrade(user.getPassword())) {
+            CustomUserDetails details = new CustomUserDetails(user);
+            passwordHashExecutor.encodeLater(rawPassword,
+                    encoded -> userDetailsPasswordService.updatePassword(details, encoded));
+        }
+        return user;
+    }
+}
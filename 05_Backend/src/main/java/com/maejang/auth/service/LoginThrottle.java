@@ -0,0 +1,44 @@
+package com.maejang.auth.service;
+
+import com.maejang.global.exception.CustomException;
+import com.maejang.global.exception.ErrorCode;
+import com.maejang.global.util.SlidingWindowRateLimiter;
+import java.util.Locale;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 로그인 시도 제한 (이메일별 / IP별)
+ * - 비밀번호 해시 비교 전에 확인해서, credential stuffing 요청이 BCrypt CPU를 쓰기 전에 429로 끊음
+ */
+@Component
+public class LoginThrottle {
+
+    private final SlidingWindowRateLimiter byEmail;
+    private final SlidingWindowRateLimiter byIp;
+
+    public LoginThrottle(@Value("${auth.login.max-per-email:10}") int maxPerEmail,
+                         @Value("${auth.login.max-per-ip:30}") int maxPerIp,
+                         @Value("${auth.login.window-seconds:60}") long windowSeconds) {
+        this.byEmail = new SlidingWindowRateLimiter(maxPerEmail, windowSeconds * 1000);
+        this.byIp = new SlidingWindowRateLimiter(maxPerIp, windowSeconds * 1000);
+    }
+
+    public void check(String email, String ip) {
+        long now = System.currentTimeMillis();
+        if (ip != null && !byIp.tryAcquire(ip, now)) {
+            throw new CustomException(ErrorCode.TOO_MANY_REQUESTS);
+        }
+        if (email != null && !byEmail.tryAcquire(email.toLowerCase(Locale.ROOT), now)) {
+            throw new CustomException(ErrorCode.TOO_MANY_REQUESTS);
+        }
+    }
+
+    @Scheduled(fixedDelay = 60_000)
+    public void evictIdle() {
+        long now = System.currentTimeMillis();
+        byEmail.evictIdle(now);
+        byIp.evictIdle(now);
+    }
+}
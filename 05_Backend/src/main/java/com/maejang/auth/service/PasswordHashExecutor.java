@@ -0,0 +1,113 @@
+package com.maejang.auth.service;
+
+import com.maejang.global.exception.CustomException;
+import com.maejang.global.exception.ErrorCode;
+import jakarta.annotation.PreDestroy;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+/**
+ * 비밀번호 해시(BCrypt) 전용 스레드 풀
+ * - BCrypt 1회가 CPU를 ~100ms 쓰므로 요청 스레드에서 바로 돌리면 로그인 폭주 시 주문/메뉴 요청까지 밀림
+ * - 스레드 수(기본: 코어의 절반)와 대기열 길이를 제한하고, 대기열이 차면 기다리지 않고 바로 429
+ */
+@Slf4j
+@Component
+public class PasswordHashExecutor {
+
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor executor;
+    private final long timeoutMillis;
+
+    public PasswordHashExecutor(PasswordEncoder passwordEncoder,
+                                @Value("${auth.password-hash.threads:0}") int threads,
+                                @Value("${auth.password-hash.queue-capacity:32}") int queueCapacity,
+                                @Value("${auth.password-hash.timeout-millis:3000}") long timeoutMillis) {
+        this.passwordEncoder = passwordEncoder;
+        this.timeoutMillis = timeoutMillis;
+        int poolSize = threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        AtomicInteger seq = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                r -> {
+                    Thread t = new Thread(r, "password-hash-" + seq.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    public boolean matches(String rawPassword, String encodedPassword) {
+        return run(() -> passwordEncoder.matches(rawPassword, encodedPassword));
+    }
+
+    public String encode(String rawPassword) {
+        return run(() -> passwordEncoder.encode(rawPassword));
+    }
+
+    /**
+     * 저장된 해시가 현재 기준(알고리즘 / BCrypt cost)보다 약한지 (해시 계산 없음)
+     */
+    public boolean needsUpgrade(String encodedPassword) {
+        return passwordEncoder.upgradeEncoding(encodedPassword);
+    }
+
+    /**
+     * 기다리지 않고 해시 후 onEncoded 호출 (해시 업그레이드용)
+     * - 풀이 바쁘면 건너뜀 (다음 로그인 때 다시 시도)
+     */
+    public void encodeLater(String rawPassword, Consumer<String> onEncoded) {
+        try {
+            executor.execute(() -> {
+                try {
+                    onEncoded.accept(passwordEncoder.encode(rawPassword));
+                } catch (RuntimeException e) {
+                    log.warn("비밀번호 해시 업그레이드 실패", e);
+                }
+            });
+        } catch (RejectedExecutionException ignored) {
+            // 로그인 응답이 우선
+        }
+    }
+
+    private <T> T run(Callable<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(task);
+        } catch (RejectedExecutionException e) {
+            throw new CustomException(ErrorCode.TOO_MANY_REQUESTS);
+        }
+        try {
+            return future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            throw new CustomException(ErrorCode.TOO_MANY_REQUESTS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+            throw new CustomException(ErrorCode.INTERNAL_ERROR);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException re) {
+                throw re;
+            }
+            throw new CustomException(ErrorCode.INTERNAL_ERROR);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
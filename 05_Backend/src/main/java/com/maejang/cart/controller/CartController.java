@@ -6,6 +6,7 @@ import com.maejang.cart.dto.response.CartItemResponse;
 import com.maejang.cart.service.CartService;
 import com.maejang.auth.security.CustomUserDetails;
 import com.maejang.global.response.JSONResponse;
+import com.maejang.store.dto.response.DeliverabilityResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import jakarta.validation.Valid;
 import java.util.List;
@@ -18,6 +19,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @RequiredArgsConstructor
@@ -46,6 +48,15 @@ public class CartController {
         return ResponseEntity.ok(JSONResponse.success(result));
     }
 
+    @Operation(summary = "배달 가능 여부", description = "내 배송지별로 해당 가게에서 배달 가능한지 조회합니다. 주문 전에 미리 확인할 때 사용합니다.")
+    @GetMapping("/deliverable")
+    public ResponseEntity<JSONResponse<List<DeliverabilityResponse>>> deliverable(
+            @AuthenticationPrincipal CustomUserDetails principal,
+            @RequestParam("storeId") Long storeId
+    ) {
+        return ResponseEntity.ok(JSONResponse.success(cartService.deliverability(principal.getUserId(), storeId)));
+    }
+
     @Operation(summary = "장바구니 삭제", description = "장바구니 항목을 삭제합니다.")
     @DeleteMapping("/delete/{cartItemId}")
     public ResponseEntity<JSONResponse<Void>> delete(
@@ -8,6 +8,7 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
@@ -19,7 +20,7 @@ import lombok.NoArgsConstructor;
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Entity
-@Table(name = "cart_items")
+@Table(name = "cart_items", indexes = @Index(name = "idx_cart_items_user", columnList = "user_id"))
 public class CartItem {
 
     @Id
@@ -38,6 +39,10 @@ public class CartItem {
     @Column(name = "menu_option", length = 1000)
     private String option;
 
+    // 선택한 옵션 선택지 id (쉼표 구분)
+    @Column(name = "option_choice_ids", length = 500)
+    private String optionChoiceIds;
+
     @Column(name = "count", nullable = false)
     private int count;
 
@@ -46,10 +51,11 @@ public class CartItem {
     }
 
     @Builder
-    private CartItem(User user, Menu menu, String option, int count) {
+    private CartItem(User user, Menu menu, String option, String optionChoiceIds, int count) {
         this.user = user;
         this.menu = menu;
         this.option = option;
+        this.optionChoiceIds = optionChoiceIds;
         this.count = count;
     }
 }
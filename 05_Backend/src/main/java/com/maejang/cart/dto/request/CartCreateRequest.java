@@ -2,12 +2,15 @@ package com.maejang.cart.dto.request;
 
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
+import java.util.List;
 
 public record CartCreateRequest(
         @NotNull(message = "menuId는 필수입니다.")
         Long menuId,
 
-        String option,
+        String option, // 구 형식 옵션명 (choiceIds가 없을 때만 사용)
+
+        List<Long> choiceIds,
 
         @Min(value = 1, message = "count는 1 이상이어야 합니다.")
         int count
@@ -1,12 +1,15 @@
 package com.maejang.cart.dto.response;
 
 import com.maejang.cart.domain.CartItem;
+import java.util.Arrays;
+import java.util.List;
 
 public record CartItemResponse(
         Long cartItemId,
         Long menuId,
         String menuName,
         String option,
+        List<Long> choiceIds,
         int count
 ) {
     public static CartItemResponse from(CartItem c) {
@@ -15,9 +18,17 @@ public record CartItemResponse(
                 c.getMenu().getMenuId(),
                 c.getMenu().getMenuName(),
                 c.getOption(),
+                parseIds(c.getOptionChoiceIds()),
                 c.getCount()
         );
     }
+
+    private static List<Long> parseIds(String ids) {
+        if (ids == null || ids.isBlank()) {
+            return List.of();
+        }
+        return Arrays.stream(ids.split(",")).map(Long::valueOf).toList();
+    }
 }
 
 
@@ -1,5 +1,6 @@
 package com.maejang.cart.service;
 
+import com.maejang.address.repository.AddressRepository;
 import com.maejang.cart.domain.CartItem;
 import com.maejang.cart.dto.request.CartCreateRequest;
 import com.maejang.cart.repository.CartItemRepository;
@@ -7,6 +8,12 @@ import com.maejang.global.exception.CustomException;
 import com.maejang.global.exception.ErrorCode;
 import com.maejang.menu.domain.Menu;
 import com.maejang.menu.repository.MenuRepository;
+import com.maejang.menu.service.MenuOptionPricer;
+import com.maejang.store.domain.Store;
+import com.maejang.store.dto.response.DeliverabilityResponse;
+import com.maejang.store.repository.StoreRepository;
+import com.maejang.store.service.DeliveryEligibilityCache;
+import com.maejang.store.service.DeliveryQuote;
 import com.maejang.user.domain.User;
 import com.maejang.user.repository.UserRepository;
 import java.util.List;
@@ -21,6 +28,10 @@ public class CartService {
     private final CartItemRepository cartItemRepository;
     private final UserRepository userRepository;
     private final MenuRepository menuRepository;
+    private final MenuOptionPricer menuOptionPricer;
+    private final StoreRepository storeRepository;
+    private final AddressRepository addressRepository;
+    private final DeliveryEligibilityCache deliveryEligibilityCache;
 
     @Transactional
     public Long create(Long userId, CartCreateRequest req) {
@@ -29,10 +40,14 @@ public class CartService {
         Menu menu = menuRepository.findById(req.menuId())
                 .orElseThrow(() -> new CustomException(ErrorCode.NOT_FOUND));
 
+        // 담을 때 바로 검증 (없는 옵션/필수 그룹 누락은 주문 단계까지 가지 않음)
+        MenuOptionPricer.SelectedOptions options = menuOptionPricer.select(menu, req.choiceIds(), req.option());
+
         CartItem item = CartItem.builder()
                 .user(user)
                 .menu(menu)
-                .option(req.option())
+                .option(options.label())
+                .optionChoiceIds(options.choiceIds())
                 .count(req.count())
                 .build();
 
@@ -44,6 +59,23 @@ public class CartService {
         return cartItemRepository.findByUserId(userId);
     }
 
+    /**
+     * 장바구니 화면용: 내 배송지별로 해당 가게 배달 가능 여부
+     * - 주문 전에 미리 알려주기 위함 (주문 시 검증과 같은 캐시 사용)
+     */
+    @Transactional(readOnly = true)
+    public List<DeliverabilityResponse> deliverability(Long userId, Long storeId) {
+        Store store = storeRepository.findById(storeId)
+                .orElseThrow(() -> new CustomException(ErrorCode.STORE_NOT_FOUND));
+        return addressRepository.findByUserId(userId).stream()
+                .map(a -> {
+                    DeliveryQuote quote = deliveryEligibilityCache.quote(a, store);
+                    return new DeliverabilityResponse(a.getAddressId(), storeId,
+                            quote.deliverable(), quote.deliveryFee(), quote.minOrderPrice());
+                })
+                .toList();
+    }
+
     @Transactional
     public void delete(Long userId, Long cartItemId) {
         CartItem item = cartItemRepository.findById(cartItemId)
@@ -2,9 +2,14 @@ package com.maejang.global.config;
 
 import com.maejang.auth.jwt.JwtAuthenticationFilter;
 import com.maejang.auth.jwt.JwtTokenProvider;
+import com.maejang.auth.jwt.RevokedTokenRegistry;
+import com.maejang.auth.security.BCryptStrengthCalibrator;
+import jakarta.servlet.DispatcherType;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
@@ -16,19 +21,24 @@ import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
 import java.util.List;
+import java.util.Map;
 
 @Configuration
 @EnableWebSecurity
 public class SecurityConfig {
     
     @Bean
-    public SecurityFilterChain filterChain(HttpSecurity http, JwtTokenProvider jwtTokenProvider) throws Exception {
+    public SecurityFilterChain filterChain(HttpSecurity http, JwtTokenProvider jwtTokenProvider,
+                                           RevokedTokenRegistry revokedTokenRegistry) throws Exception {
         http
                 .csrf(csrf -> csrf.disable())
                 // 🔥 CORS 설정 추가 (WebConfig 만으로는 부족함)
                 .cors(cors -> cors.configurationSource(corsConfigurationSource()))
                 .sessionManagement(sm -> sm.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authorizeHttpRequests(auth -> auth
+                        // SSE 등 비동기 응답의 재디스패치는 최초 요청에서 이미 인가됨
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
+
                         // Swagger 허용
                         .requestMatchers(
                                 "/swagger-ui/**",
@@ -45,31 +55,38 @@ public class SecurityConfig {
                                 "/api/v1/users/email/duplicate"
                         ).permitAll()
 
-                        // JWT 쿠키 로그인/로그아웃 허용
+                        // JWT 쿠키 로그인/재발급/로그아웃 허용
                         .requestMatchers(
                                 "/api/v1/auth/login",
+                                "/api/v1/auth/refresh",
                                 "/api/v1/auth/logout"
                         ).permitAll()
 
                         // 이미지 업로드 (인증된 사용자만)
                         .requestMatchers("/api/images/**").authenticated()
 
+                        // 주소 기준 배달 가능 가게 (/{storeId} 보다 먼저 매칭되어야 함)
+                        .requestMatchers("/api/v1/store/nearby").hasRole("CUSTOMER")
+                        // 배달 구역 조회/수정 (마찬가지로 /{storeId} 보다 먼저)
+                        .requestMatchers("/api/v1/store/delivery-zones").hasRole("OWNER")
+
                         // 가게 정보 조회 (고객도 볼 수 있어야 함)
                         .requestMatchers("/api/v1/store/{storeId}").permitAll()
-                        .requestMatchers("/api/v1/menu/read/**").permitAll()
+                        .requestMatchers("/api/v1/menu/read/**", "/api/v1/menu/search").permitAll()
 
                         // Role 기반 접근 제어 (JWT 적용 전에는 ownerId/userId를 요청으로 받아도 결국 서버에서 role 체크 필요)
                         .requestMatchers("/api/v1/store/**").hasRole("OWNER")
-                        .requestMatchers("/api/v1/menu/create", "/api/v1/menu/delete/**", "/api/v1/menu/update/**").hasRole("OWNER")
+                        .requestMatchers("/api/v1/menu/create", "/api/v1/menu/bulk", "/api/v1/menu/delete/**", "/api/v1/menu/update/**").hasRole("OWNER")
                         .requestMatchers("/api/v1/address/**", "/api/v1/cart/**").hasRole("CUSTOMER")
                         // 주문: 고객/사장 기능이 섞여있어서 endpoint 별로 분리
-                        .requestMatchers("/api/v1/order/create", "/api/v1/order/read", "/api/v1/order/history", "/api/v1/order/delete").hasRole("CUSTOMER")
-                        .requestMatchers("/api/v1/order/check", "/api/v1/order/ok", "/api/v1/order/cancel", "/api/v1/order/complete", "/api/v1/order/deliver").hasRole("OWNER")
+                        .requestMatchers("/api/v1/order/create", "/api/v1/order/read", "/api/v1/order/history", "/api/v1/order/history/page", "/api/v1/order/delete").hasRole("CUSTOMER")
+                        .requestMatchers("/api/v1/order/stream").hasAnyRole("CUSTOMER", "OWNER")
+                        .requestMatchers("/api/v1/order/check", "/api/v1/order/check/page", "/api/v1/order/dashboard", "/api/v1/order/ok", "/api/v1/order/cancel", "/api/v1/order/complete", "/api/v1/order/deliver").hasRole("OWNER")
 
                         .anyRequest().authenticated()
                 );
 
-        http.addFilterBefore(new JwtAuthenticationFilter(jwtTokenProvider), UsernamePasswordAuthenticationFilter.class);
+        http.addFilterBefore(new JwtAuthenticationFilter(jwtTokenProvider, revokedTokenRegistry), UsernamePasswordAuthenticationFilter.class);
 
         return http.build();
     }
@@ -90,8 +107,22 @@ public class SecurityConfig {
         return source;
     }
 
+    /**
+     * 새 해시는 {bcrypt} 접두사 + 설정한 cost로 저장 (모든 인스턴스가 같은 cost를 쓰도록 설정으로 고정)
+     * - 접두사 없는 기존 해시도 BCrypt로 비교하고, 로그인 성공 시 새 형식으로 교체됨 (LoginAuthenticator)
+     * - calibrate-on-startup이면 이 서버 기준 권장 cost를 로그로만 남김
+     */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(@Value("${auth.password-hash.bcrypt-strength:10}") int strength,
+                                           @Value("${auth.password-hash.calibrate-on-startup:false}") boolean calibrate,
+                                           @Value("${auth.password-hash.target-millis:250}") long targetMillis) {
+        if (calibrate) {
+            BCryptStrengthCalibrator.recommend(targetMillis, strength);
+        }
+        BCryptPasswordEncoder bcrypt = new BCryptPasswordEncoder(strength);
+
+        DelegatingPasswordEncoder encoder = new DelegatingPasswordEncoder("bcrypt", Map.of("bcrypt", bcrypt));
+        encoder.setDefaultPasswordEncoderForMatches(bcrypt);
+        return encoder;
     }
 }
@@ -12,6 +12,7 @@ public enum ErrorCode {
     UNAUTHORIZED(HttpStatus.UNAUTHORIZED, "인증이 필요합니다."),
     FORBIDDEN(HttpStatus.FORBIDDEN, "권한이 없습니다."),
     NOT_FOUND(HttpStatus.NOT_FOUND, "대상을 찾을 수 없습니다."),
+    TOO_MANY_REQUESTS(HttpStatus.TOO_MANY_REQUESTS, "요청이 많습니다. 잠시 후 다시 시도해주세요."),
     INTERNAL_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "서버 내부 오류"),
     INTERNAL_SERVER_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "서버 내부 오류"),
 
@@ -27,12 +28,22 @@ public enum ErrorCode {
     // ORDER
     ORDER_NOT_FOUND(HttpStatus.NOT_FOUND, "주문을 찾을 수 없습니다."),
     ORDER_ALREADY_COMPLETED(HttpStatus.BAD_REQUEST, "이미 완료된 주문입니다."),
+    EMPTY_ORDER_ITEMS(HttpStatus.BAD_REQUEST, "주문할 메뉴가 없습니다."),
+    ORDER_STATUS_CONFLICT(HttpStatus.CONFLICT, "이미 처리되었거나 변경할 수 없는 주문 상태입니다."),
+    INVALID_CURSOR(HttpStatus.BAD_REQUEST, "유효하지 않은 페이지 커서입니다."),
+    IDEMPOTENCY_KEY_REUSED(HttpStatus.UNPROCESSABLE_ENTITY, "같은 Idempotency-Key로 다른 주문 요청을 보낼 수 없습니다."),
+
+    // MENU
+    MENU_NOT_FOUND(HttpStatus.NOT_FOUND, "메뉴를 찾을 수 없습니다."),
+    MENU_NOT_IN_STORE(HttpStatus.BAD_REQUEST, "해당 가게의 메뉴가 아닙니다."),
+    INVALID_MENU_OPTION(HttpStatus.BAD_REQUEST, "메뉴에 없는 옵션입니다."),
 
     // STORE
     STORE_NOT_FOUND(HttpStatus.NOT_FOUND, "가게를 찾을 수 없습니다."),
     DUPLICATE_STORE(HttpStatus.BAD_REQUEST, "이미 가게가 존재합니다."),
     STORE_CLOSED(HttpStatus.BAD_REQUEST, "가게가 영업중이 아닙니다."),
     OUT_OF_DELIVERY_RANGE(HttpStatus.BAD_REQUEST, "배달 가능한 지역이 아닙니다."),
+    BELOW_MIN_ORDER_PRICE(HttpStatus.BAD_REQUEST, "배달 구역의 최소 주문금액보다 적습니다."),
 
     // IMAGE
     EMPTY_FILE(HttpStatus.BAD_REQUEST, "파일이 비어있습니다."),
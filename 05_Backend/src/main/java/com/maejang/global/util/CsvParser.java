@@ -0,0 +1,67 @@
+package com.maejang.global.util;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 간단한 CSV 파서 (RFC 4180)
+ * - 큰따옴표로 감싼 필드 안의 쉼표/줄바꿈 허용, "" 는 " 한 글자
+ * - 빈 줄은 건너뜀
+ */
+public class CsvParser {
+
+    /**
+     * @return 행 목록 (각 행은 필드 목록)
+     * @throws IllegalArgumentException 닫히지 않은 따옴표가 있는 경우
+     */
+    public static List<List<String>> parse(String text) {
+        List<List<String>> rows = new ArrayList<>();
+        List<String> row = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        int start = text.startsWith("﻿") ? 1 : 0; // 엑셀 저장 시 붙는 BOM 제거
+
+        for (int i = start; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (quoted) {
+                if (c == '"') {
+                    if (i + 1 < text.length() && text.charAt(i + 1) == '"') {
+                        field.append('"');
+                        i++;
+                    } else {
+                        quoted = false;
+                    }
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                row.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\n' || c == '\r') {
+                if (c == '\r' && i + 1 < text.length() && text.charAt(i + 1) == '\n') {
+                    i++;
+                }
+                endRow(rows, row, field);
+                row = new ArrayList<>();
+            } else {
+                field.append(c);
+            }
+        }
+        if (quoted) {
+            throw new IllegalArgumentException("닫히지 않은 따옴표가 있습니다.");
+        }
+        endRow(rows, row, field);
+        return rows;
+    }
+
+    private static void endRow(List<List<String>> rows, List<String> row, StringBuilder field) {
+        row.add(field.toString());
+        field.setLength(0);
+        boolean blank = row.size() == 1 && row.get(0).isBlank();
+        if (!blank) {
+            rows.add(row);
+        }
+    }
+}
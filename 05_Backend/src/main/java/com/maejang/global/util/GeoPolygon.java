@@ -0,0 +1,77 @@
+package com.maejang.global.util;
+
+/**
+ * 위경도 다각형 (배달 구역 판정용)
+ * - 생성 시 외곽 사각형(bbox)을 미리 계산해서 대부분의 지점은 비교 4번으로 걸러냄
+ * - bbox 안쪽만 ray casting (경도 +방향 반직선과 변의 교차 횟수가 홀수면 내부)
+ * - 꼭짓점은 primitive 배열로 보관 (판정 중 객체 생성/박싱 없음)
+ */
+public final class GeoPolygon {
+
+    private final double[] lats;
+    private final double[] lons;
+    private final double minLat;
+    private final double maxLat;
+    private final double minLon;
+    private final double maxLon;
+
+    /**
+     * @param lats 꼭짓점 위도 (순서대로, 마지막 점과 첫 점은 자동으로 이어짐)
+     * @param lons 꼭짓점 경도
+     */
+    public GeoPolygon(double[] lats, double[] lons) {
+        if (lats.length != lons.length || lats.length < 3) {
+            throw new IllegalArgumentException("다각형은 꼭짓점이 3개 이상이어야 합니다.");
+        }
+        this.lats = lats.clone();
+        this.lons = lons.clone();
+
+        double loLat = Double.POSITIVE_INFINITY, hiLat = Double.NEGATIVE_INFINITY;
+        double loLon = Double.POSITIVE_INFINITY, hiLon = Double.NEGATIVE_INFINITY;
+        for (int i = 0; i < lats.length; i++) {
+            loLat = Math.min(loLat, lats[i]);
+            hiLat = Math.max(hiLat, lats[i]);
+            loLon = Math.min(loLon, lons[i]);
+            hiLon = Math.max(hiLon, lons[i]);
+        }
+        this.minLat = loLat;
+        this.maxLat = hiLat;
+        this.minLon = loLon;
+        this.maxLon = hiLon;
+    }
+
+    public boolean contains(double lat, double lon) {
+        if (lat < minLat || lat > maxLat || lon < minLon || lon > maxLon) {
+            return false;
+        }
+        boolean inside = false;
+        int n = lats.length;
+        for (int i = 0, j = n - 1; i < n; j = i++) {
+            double yi = lats[i];
+            double yj = lats[j];
+            if ((yi > lat) != (yj > lat)) {
+                double x = lons[i] + (lat - yi) * (lons[j] - lons[i]) / (yj - yi);
+                if (lon < x) {
+                    inside = !inside;
+                }
+            }
+        }
+        return inside;
+    }
+
+    public double getMinLat() {
+        return minLat;
+    }
+
+    public double getMaxLat() {
+        return maxLat;
+    }
+
+    public double getMinLon() {
+        return minLon;
+    }
+
+    public double getMaxLon() {
+        return maxLon;
+    }
+}
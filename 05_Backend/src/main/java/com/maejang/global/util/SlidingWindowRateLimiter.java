@@ -0,0 +1,66 @@
+package com.maejang.global.util;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 키별 sliding window 요청 제한 (메모리, lock 없음)
+ * - 직전 구간 횟수 * (현재 구간에서 아직 남은 비율) + 현재 구간 횟수로 최근 window 동안의 요청 수를 근사
+ * - 키마다 AtomicLong 하나에 [구간 번호 32bit | 직전 횟수 16bit | 현재 횟수 16bit]를 담고 CAS로 갱신
+ */
+public class SlidingWindowRateLimiter {
+
+    private static final int MAX_COUNT = 0xFFFF;
+
+    private final int limit;
+    private final long windowMillis;
+    private final Map<String, AtomicLong> states = new ConcurrentHashMap<>();
+
+    /**
+     * @param limit window 동안 허용할 요청 수 (최대 65535)
+     */
+    public SlidingWindowRateLimiter(int limit, long windowMillis) {
+        if (limit < 1 || limit > MAX_COUNT) {
+            throw new IllegalArgumentException("limit은 1 이상 65535 이하여야 합니다.");
+        }
+        this.limit = limit;
+        this.windowMillis = windowMillis;
+    }
+
+    /**
+     * @return 허용되면 true (횟수에 포함), 제한에 걸리면 false (횟수에 포함하지 않음)
+     */
+    public boolean tryAcquire(String key, long nowMillis) {
+        AtomicLong state = states.computeIfAbsent(key, k -> new AtomicLong());
+        long window = nowMillis / windowMillis;
+        double remaining = 1.0 - (double) (nowMillis % windowMillis) / windowMillis;
+
+        while (true) {
+            long s = state.get();
+            long stateWindow = s >>> 32;
+            int previous = (int) ((s >>> 16) & MAX_COUNT);
+            int current = (int) (s & MAX_COUNT);
+
+            if (stateWindow != window) {
+                previous = stateWindow == window - 1 ? current : 0;
+                current = 0;
+            }
+            if (previous * remaining + current >= limit) {
+                return false;
+            }
+            long next = (window << 32) | ((long) previous << 16) | Math.min(current + 1, MAX_COUNT);
+            if (state.compareAndSet(s, next)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * 직전 구간 이전에 마지막으로 쓰인 키 정리 (더 이상 계산에 영향 없음)
+     */
+    public void evictIdle(long nowMillis) {
+        long window = nowMillis / windowMillis;
+        states.values().removeIf(state -> (state.get() >>> 32) < window - 1);
+    }
+}
@@ -1,16 +1,25 @@
 package com.maejang.menu.controller;
 
+import com.maejang.global.exception.CustomException;
+import com.maejang.global.exception.ErrorCode;
 import com.maejang.global.response.JSONResponse;
 import com.maejang.auth.security.CustomUserDetails;
 import com.maejang.menu.dto.request.MenuUpsertRequest;
 import com.maejang.menu.dto.request.MenuUpdateRequest;
 import com.maejang.menu.dto.response.MenuIdResponse;
+import com.maejang.menu.dto.response.MenuImportResponse;
+import com.maejang.menu.dto.response.MenuPageResponse;
 import com.maejang.menu.dto.response.MenuResponse;
+import com.maejang.menu.service.MenuCatalogCache;
+import com.maejang.menu.service.MenuImportService;
+import com.maejang.menu.service.MenuSearchIndex;
 import com.maejang.menu.service.MenuService;
 import io.swagger.v3.oas.annotations.Operation;
 import jakarta.validation.Valid;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -22,13 +31,20 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 @RequiredArgsConstructor
 @RestController
 @RequestMapping("/api/v1/menu")
 public class MenuController {
 
+    private static final int DEFAULT_SEARCH_SIZE = 20;
+    private static final int MAX_SEARCH_SIZE = 50;
+
     private final MenuService menuService;
+    private final MenuCatalogCache menuCatalogCache;
+    private final MenuSearchIndex menuSearchIndex;
+    private final MenuImportService menuImportService;
 
     @Operation(summary = "메뉴 신규 등록", description = "메뉴를 신규 등록합니다.")
     @PostMapping("/create")
@@ -40,13 +56,67 @@ public class MenuController {
                 .body(JSONResponse.success(new MenuIdResponse(menuService.create(principal.getUserId(), req))));
     }
 
-    @Operation(summary = "메뉴 목록 조회", description = "메뉴 목록을 조회합니다.")
+    @Operation(summary = "메뉴 일괄 등록(JSON)", description = "메뉴 배열을 한 번에 등록합니다. 같은 이름의 메뉴가 있으면 수정합니다. 오류가 있는 행은 건너뛰고 행 번호와 사유를 돌려줍니다. (최대 1000개)")
+    @PostMapping(value = "/bulk", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<JSONResponse<MenuImportResponse>> bulkJson(
+            @AuthenticationPrincipal CustomUserDetails principal,
+            @RequestBody List<MenuUpsertRequest> req
+    ) {
+        return ResponseEntity.ok(JSONResponse.success(menuImportService.importJson(principal.getUserId(), req)));
+    }
+
+    @Operation(summary = "메뉴 일괄 등록(CSV)", description = "CSV(첫 줄 헤더: menuName,price,description,category,option,picture)로 메뉴를 등록합니다. 옵션처럼 쉼표가 들어가는 값은 큰따옴표로 감싸야 합니다.")
+    @PostMapping(value = "/bulk", consumes = "text/csv")
+    public ResponseEntity<JSONResponse<MenuImportResponse>> bulkCsv(
+            @AuthenticationPrincipal CustomUserDetails principal,
+            @RequestBody String csv
+    ) {
+        return ResponseEntity.ok(JSONResponse.success(menuImportService.importCsv(principal.getUserId(), csv)));
+    }
+
+    @Operation(summary = "메뉴 목록 조회", description = "사장(가게)의 메뉴 목록을 조회합니다. ETag를 내려주고, If-None-Match가 같으면 304를 반환합니다.")
     @GetMapping("/read")
-    public ResponseEntity<JSONResponse<List<MenuResponse>>> read(@RequestParam(value = "ownerId", required = false) Long ownerId) {
-        List<MenuResponse> result = menuService.read(ownerId).stream()
-                .map(MenuResponse::from)
-                .toList();
-        return ResponseEntity.ok(JSONResponse.success(result));
+    public ResponseEntity<byte[]> read(
+            @RequestParam(value = "ownerId", required = false) Long ownerId,
+            WebRequest webRequest
+    ) {
+        // 전체 가게 메뉴 조회는 제공하지 않음 (가게 단위 조회 또는 검색 사용)
+        if (ownerId == null) {
+            throw new CustomException(ErrorCode.INVALID_INPUT);
+        }
+
+        // 캐시된 스냅샷의 ETag만 비교 -> 변경이 없으면 DB 조회/직렬화 없이 304
+        MenuCatalogCache.Catalog catalog = menuCatalogCache.get(ownerId);
+        if (webRequest.checkNotModified(catalog.etag())) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .eTag(catalog.etag())
+                .cacheControl(CacheControl.noCache())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(catalog.json());
+    }
+
+    @Operation(summary = "가게 메뉴 목록 조회(페이지)", description = "가게의 메뉴를 커서 페이지로 조회합니다. size는 최대 100입니다.")
+    @GetMapping("/read/store/{storeId}")
+    public ResponseEntity<JSONResponse<MenuPageResponse>> readPage(
+            @PathVariable Long storeId,
+            @RequestParam(value = "cursor", required = false) Long cursor,
+            @RequestParam(value = "size", required = false) Integer size
+    ) {
+        return ResponseEntity.ok(JSONResponse.success(menuService.readPage(storeId, cursor, size)));
+    }
+
+    @Operation(summary = "메뉴 검색", description = "메뉴명/설명/카테고리로 메뉴를 검색합니다. 단어 일부만 입력해도 검색됩니다. size는 최대 50입니다.")
+    @GetMapping("/search")
+    public ResponseEntity<JSONResponse<List<MenuResponse>>> search(
+            @RequestParam(value = "q", required = false) String q,
+            @RequestParam(value = "category", required = false) String category,
+            @RequestParam(value = "storeId", required = false) Long storeId,
+            @RequestParam(value = "size", required = false) Integer size
+    ) {
+        int limit = size == null ? DEFAULT_SEARCH_SIZE : Math.max(1, Math.min(size, MAX_SEARCH_SIZE));
+        return ResponseEntity.ok(JSONResponse.success(menuSearchIndex.search(q, category, storeId, limit)));
     }
 
     @Operation(summary = "메뉴 수정", description = "메뉴를 수정합니다.")
@@ -1,15 +1,29 @@
 package com.maejang.menu.domain;
 
 import com.maejang.user.domain.User;
+import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OneToMany;
+import jakarta.persistence.OrderBy;
 import jakarta.persistence.Table;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.StringJoiner;
 import lombok.Builder;
 import lombok.AccessLevel;
 import lombok.Getter;
@@ -19,7 +33,7 @@ import org.hibernate.annotations.Where;
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Entity
-@Table(name = "menus")
+@Table(name = "menus", indexes = @Index(name = "idx_menus_owner_deleted", columnList = "user_id, is_deleted"))
 @Where(clause = "is_deleted = false")
 public class Menu {
 
@@ -61,6 +75,13 @@ public class Menu {
     @Column(name = "is_deleted")
     private Boolean isDeleted = false;
 
+    /**
+     * 구조화된 옵션 (option 문자열은 구 클라이언트 호환용으로 같이 유지)
+     */
+    @OneToMany(mappedBy = "menu", cascade = CascadeType.ALL, orphanRemoval = true)
+    @OrderBy("sortOrder ASC")
+    private List<MenuOptionGroup> optionGroups = new ArrayList<>();
+
     @Builder
     private Menu(User owner, String menuName, String picture, int price, String description, String option, String category) {
         this.owner = owner;
@@ -91,6 +112,94 @@ public class Menu {
         if (category != null) this.category = category;
     }
 
+    /**
+     * 옵션 그룹을 groups 구성으로 맞춤 + option 문자열("이름+가격,...")을 같은 내용으로 다시 만듦
+     * - 그룹은 이름, 선택지는 그룹 안에서 이름으로 매칭해서 제자리 갱신
+     *   -> 그대로 남는 선택지는 id가 유지되어 장바구니에 저장된 선택지 id가 수정 후에도 유효
+     */
+    public void replaceOptionGroups(List<MenuOptionGroup> groups) {
+        Map<String, MenuOptionGroup> existing = new HashMap<>();
+        for (MenuOptionGroup group : optionGroups) {
+            existing.putIfAbsent(group.getName(), group);
+        }
+        Set<MenuOptionGroup> kept = Collections.newSetFromMap(new IdentityHashMap<>());
+        List<MenuOptionGroup> added = new ArrayList<>();
+        for (MenuOptionGroup incoming : groups) {
+            MenuOptionGroup current = existing.remove(incoming.getName());
+            if (current != null) {
+                current.mergeFrom(incoming);
+                kept.add(current);
+            } else {
+                incoming.assignMenu(this);
+                added.add(incoming);
+            }
+        }
+        optionGroups.removeIf(group -> !kept.contains(group));
+        optionGroups.addAll(added);
+        this.option = toOptionString(optionGroups);
+    }
+
+    /**
+     * 구 형식 option 문자열로 수정 (구 클라이언트): 기존 그룹 구조(필수 여부/최대 선택 수)는 유지
+     * - 이름이 남아 있는 선택지는 제자리에서 가격만 갱신 (id 유지), 빠진 선택지는 삭제, 선택지가 없어진 그룹은 삭제
+     * - 새 선택지는 legacyGroup과 이름이 같은 그룹 끝에 추가 (없으면 legacyGroup을 새 그룹으로 추가)
+     * @param legacyGroup 문자열을 변환한 그룹 1개 (옵션이 비었으면 null)
+     */
+    public void mergeLegacyOptions(MenuOptionGroup legacyGroup) {
+        Map<String, Integer> prices = new LinkedHashMap<>();
+        Map<String, Integer> positions = new HashMap<>();
+        if (legacyGroup != null) {
+            for (MenuOptionChoice choice : legacyGroup.getChoices()) {
+                if (prices.putIfAbsent(choice.getName(), choice.getPrice()) == null) {
+                    positions.put(choice.getName(), positions.size());
+                }
+            }
+        }
+        for (MenuOptionGroup group : optionGroups) {
+            group.retainChoices(prices, positions);
+        }
+        optionGroups.removeIf(group -> group.getChoices().isEmpty());
+
+        if (!prices.isEmpty()) {
+            MenuOptionGroup target = optionGroups.stream()
+                    .filter(group -> group.getName().equals(legacyGroup.getName()))
+                    .findFirst()
+                    .orElse(null);
+            if (target == null) {
+                int nextOrder = optionGroups.stream().mapToInt(MenuOptionGroup::getSortOrder).max().orElse(-1) + 1;
+                target = MenuOptionGroup.builder()
+                        .name(legacyGroup.getName())
+                        .required(false)
+                        .maxSelect(0)
+                        .sortOrder(nextOrder)
+                        .build();
+                target.assignMenu(this);
+                optionGroups.add(target);
+            }
+            // 제한 없이 고르던 그룹(최대 선택 수 = 선택지 수)이면 늘어난 선택지까지 고를 수 있게
+            boolean unlimited = target.getMaxSelect() >= target.getChoices().size();
+            prices.forEach(target::appendChoice);
+            if (unlimited) {
+                target.updateMaxSelect(target.getChoices().size());
+            }
+        }
+        this.option = toOptionString(optionGroups);
+    }
+
+    private static String toOptionString(List<MenuOptionGroup> groups) {
+        List<MenuOptionGroup> sorted = new ArrayList<>(groups);
+        sorted.sort(Comparator.comparingInt(MenuOptionGroup::getSortOrder));
+        StringJoiner joiner = new StringJoiner(",");
+        for (MenuOptionGroup group : sorted) {
+            List<MenuOptionChoice> choices = new ArrayList<>(group.getChoices());
+            choices.sort(Comparator.comparingInt(MenuOptionChoice::getSortOrder));
+            for (MenuOptionChoice choice : choices) {
+                joiner.add(choice.getPrice() == 0 ? choice.getName() : choice.getName() + "+" + choice.getPrice());
+            }
+        }
+        return joiner.length() == 0 ? null : joiner.toString();
+    }
+
     public void delete() {
         this.isDeleted = true;
     }
@@ -0,0 +1,61 @@
+package com.maejang.menu.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 옵션 그룹 안의 선택지 (예: "곱빼기" +1000원)
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(name = "menu_option_choices", indexes = @Index(name = "idx_menu_option_choices_group", columnList = "option_group_id"))
+public class MenuOptionChoice {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "option_choice_id")
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "option_group_id", nullable = false)
+    private MenuOptionGroup group;
+
+    @Column(name = "name", nullable = false, length = 100)
+    private String name;
+
+    // 추가 금액
+    @Column(name = "price", nullable = false)
+    private int price;
+
+    @Column(name = "sort_order", nullable = false)
+    private int sortOrder;
+
+    @Builder
+    private MenuOptionChoice(String name, int price, int sortOrder) {
+        this.name = name;
+        this.price = price;
+        this.sortOrder = sortOrder;
+    }
+
+    void assignGroup(MenuOptionGroup group) {
+        this.group = group;
+    }
+
+    void update(int price, int sortOrder) {
+        this.price = price;
+        this.sortOrder = sortOrder;
+    }
+}
@@ -0,0 +1,128 @@
+package com.maejang.menu.domain;
+
+import jakarta.persistence.CascadeType;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OneToMany;
+import jakarta.persistence.OrderBy;
+import jakarta.persistence.Table;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 메뉴 옵션 그룹 (예: "사이즈", "추가 토핑")
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(name = "menu_option_groups", indexes = @Index(name = "idx_menu_option_groups_menu", columnList = "menu_id"))
+public class MenuOptionGroup {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "option_group_id")
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "menu_id", nullable = false)
+    private Menu menu;
+
+    @Column(name = "name", nullable = false, length = 100)
+    private String name;
+
+    // 반드시 하나 이상 골라야 하는 그룹인지
+    @Column(name = "is_required", nullable = false)
+    private boolean required;
+
+    // 이 그룹에서 고를 수 있는 최대 개수
+    @Column(name = "max_select", nullable = false)
+    private int maxSelect;
+
+    @Column(name = "sort_order", nullable = false)
+    private int sortOrder;
+
+    @OneToMany(mappedBy = "group", cascade = CascadeType.ALL, orphanRemoval = true)
+    @OrderBy("sortOrder ASC")
+    private List<MenuOptionChoice> choices = new ArrayList<>();
+
+    @Builder
+    private MenuOptionGroup(String name, boolean required, int maxSelect, int sortOrder) {
+        this.name = name;
+        this.required = required;
+        this.maxSelect = maxSelect;
+        this.sortOrder = sortOrder;
+    }
+
+    void assignMenu(Menu menu) {
+        this.menu = menu;
+    }
+
+    public void addChoice(MenuOptionChoice choice) {
+        choice.assignGroup(this);
+        this.choices.add(choice);
+    }
+
+    /**
+     * source(새 구성)에 맞춰 설정과 선택지를 갱신 (선택지는 이름으로 매칭, 남는 선택지는 id 유지)
+     */
+    void mergeFrom(MenuOptionGroup source) {
+        this.required = source.required;
+        this.maxSelect = source.maxSelect;
+        this.sortOrder = source.sortOrder;
+
+        Map<String, MenuOptionChoice> existing = new HashMap<>();
+        for (MenuOptionChoice choice : choices) {
+            existing.putIfAbsent(choice.getName(), choice);
+        }
+        Set<MenuOptionChoice> kept = Collections.newSetFromMap(new IdentityHashMap<>());
+        List<MenuOptionChoice> added = new ArrayList<>();
+        for (MenuOptionChoice incoming : source.choices) {
+            MenuOptionChoice current = existing.remove(incoming.getName());
+            if (current != null) {
+                current.update(incoming.getPrice(), incoming.getSortOrder());
+                kept.add(current);
+            } else {
+                incoming.assignGroup(this);
+                added.add(incoming);
+            }
+        }
+        choices.removeIf(choice -> !kept.contains(choice));
+        choices.addAll(added);
+    }
+
+    /**
+     * prices(이름 -> 가격)에 있는 선택지만 남기고 가격/순서 갱신, 처리한 이름은 prices에서 제거
+     * @param positions 이름 -> 문자열 안에서의 순서
+     */
+    void retainChoices(Map<String, Integer> prices, Map<String, Integer> positions) {
+        choices.removeIf(choice -> !prices.containsKey(choice.getName()));
+        for (MenuOptionChoice choice : choices) {
+            choice.update(prices.remove(choice.getName()), positions.get(choice.getName()));
+        }
+    }
+
+    void appendChoice(String name, int price) {
+        int nextOrder = choices.stream().mapToInt(MenuOptionChoice::getSortOrder).max().orElse(-1) + 1;
+        addChoice(MenuOptionChoice.builder().name(name).price(price).sortOrder(nextOrder).build());
+    }
+
+    void updateMaxSelect(int maxSelect) {
+        this.maxSelect = maxSelect;
+    }
+}
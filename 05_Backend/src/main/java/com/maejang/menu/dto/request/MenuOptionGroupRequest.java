@@ -0,0 +1,30 @@
+package com.maejang.menu.dto.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import java.util.List;
+
+public record MenuOptionGroupRequest(
+        @NotBlank(message = "옵션 그룹 이름은 필수입니다.")
+        String name,
+
+        // null이면 선택 안 해도 됨
+        Boolean required,
+
+        // null이면 선택지 개수만큼 선택 가능
+        @Min(value = 1, message = "maxSelect는 1 이상이어야 합니다.")
+        Integer maxSelect,
+
+        @NotEmpty(message = "선택지는 하나 이상이어야 합니다.")
+        List<@Valid ChoiceRequest> choices
+) {
+    public record ChoiceRequest(
+            @NotBlank(message = "선택지 이름은 필수입니다.")
+            String name,
+
+            @Min(value = 0, message = "옵션 가격은 0 이상이어야 합니다.")
+            int price
+    ) {}
+}
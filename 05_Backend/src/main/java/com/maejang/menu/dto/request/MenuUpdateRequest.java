@@ -1,13 +1,17 @@
 package com.maejang.menu.dto.request;
 
+import jakarta.validation.Valid;
+import java.util.List;
+
 public record MenuUpdateRequest(
         // 부분 수정: null이면 변경하지 않음
         String menuName,
         String picture,
         Integer price,
         String description,
-        String option,
-        String category
+        String option, // 구 형식("이름+가격,..."), optionGroups가 있으면 무시
+        String category,
+        List<@Valid MenuOptionGroupRequest> optionGroups
 ) {
 }
 
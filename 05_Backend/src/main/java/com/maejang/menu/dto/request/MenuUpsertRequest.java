@@ -1,7 +1,9 @@
 package com.maejang.menu.dto.request;
 
+import jakarta.validation.Valid;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
+import java.util.List;
 
 public record MenuUpsertRequest(
         @NotBlank(message = "name은 필수입니다.")
@@ -13,8 +15,9 @@ public record MenuUpsertRequest(
         int price,
 
         String description,
-        String option,
-        String category
+        String option, // 구 형식("이름+가격,..."), optionGroups가 있으면 무시
+        String category,
+        List<@Valid MenuOptionGroupRequest> optionGroups
 ) {
 }
 
@@ -0,0 +1,18 @@
+package com.maejang.menu.dto.response;
+
+import java.util.List;
+
+/**
+ * 메뉴 일괄 등록 결과
+ * - 오류가 있는 행만 건너뛰고 나머지는 등록/수정
+ */
+public record MenuImportResponse(
+        int inserted,
+        int updated,
+        List<RowError> errors
+) {
+    /**
+     * @param row 데이터 행 번호 (1부터, CSV 헤더 제외)
+     */
+    public record RowError(int row, String message) {}
+}
@@ -0,0 +1,17 @@
+package com.maejang.menu.dto.response;
+
+import java.util.List;
+
+public record MenuOptionGroupResponse(
+        Long groupId,
+        String name,
+        boolean required,
+        int maxSelect,
+        List<ChoiceResponse> choices
+) {
+    public record ChoiceResponse(
+            Long choiceId,
+            String name,
+            int price
+    ) {}
+}
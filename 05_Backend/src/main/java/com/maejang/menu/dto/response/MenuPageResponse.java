@@ -0,0 +1,13 @@
+package com.maejang.menu.dto.response;
+
+import java.util.List;
+
+/**
+ * 가게 메뉴 페이지
+ * @param nextCursor 다음 페이지 요청 시 cursor로 전달 (마지막 페이지면 null)
+ */
+public record MenuPageResponse(
+        List<MenuResponse> menus,
+        Long nextCursor
+) {
+}
@@ -1,6 +1,7 @@
 package com.maejang.menu.dto.response;
 
 import com.maejang.menu.domain.Menu;
+import java.util.List;
 
 public record MenuResponse(
         Long menuId,
@@ -10,8 +11,22 @@ public record MenuResponse(
         int price,
         String description,
         String option,
-        String category
+        String category,
+        List<MenuOptionGroupResponse> optionGroups
 ) {
+    /**
+     * JPQL 생성자 projection용 (옵션 그룹은 별도 쿼리로 채운 뒤 withOptionGroups)
+     */
+    public MenuResponse(Long menuId, Long ownerId, String menuName, String picture, int price,
+                        String description, String option, String category) {
+        this(menuId, ownerId, menuName, picture, price, description, option, category, List.of());
+    }
+
+    public MenuResponse withOptionGroups(List<MenuOptionGroupResponse> optionGroups) {
+        return new MenuResponse(menuId, ownerId, menuName, picture, price, description, option, category,
+                List.copyOf(optionGroups));
+    }
+
     public static MenuResponse from(Menu m) {
         return new MenuResponse(
                 m.getMenuId(),
@@ -21,9 +36,13 @@ public record MenuResponse(
                 m.getPrice(),
                 m.getDescription(),
                 m.getOption(),
-                m.getCategory()
+                m.getCategory(),
+                m.getOptionGroups().stream()
+                        .map(g -> new MenuOptionGroupResponse(g.getId(), g.getName(), g.isRequired(), g.getMaxSelect(),
+                                g.getChoices().stream()
+                                        .map(c -> new MenuOptionGroupResponse.ChoiceResponse(c.getId(), c.getName(), c.getPrice()))
+                                        .toList()))
+                        .toList()
         );
     }
 }
-
-
@@ -0,0 +1,8 @@
+package com.maejang.menu.event;
+
+/**
+ * 메뉴 등록/수정/삭제 이벤트
+ * - MenuService에서 발행, 커밋 이후(AFTER_COMMIT) 사장 단위 캐시를 무효화하는 데 사용
+ */
+public record MenuChangedEvent(Long ownerId) {
+}
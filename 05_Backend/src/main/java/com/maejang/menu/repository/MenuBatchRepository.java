@@ -0,0 +1,155 @@
+package com.maejang.menu.repository;
+
+import com.maejang.menu.domain.MenuOptionChoice;
+import com.maejang.menu.domain.MenuOptionGroup;
+import com.maejang.menu.dto.request.MenuUpsertRequest;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 메뉴 일괄 등록/수정 전용 저장소 (JDBC batch, 호출한 트랜잭션 안에서 실행)
+ */
+@RequiredArgsConstructor
+@Repository
+public class MenuBatchRepository {
+
+    public static final String PICTURE = "picture";
+    public static final String DESCRIPTION = "description";
+    public static final String OPTION = "option";
+    public static final String CATEGORY = "category";
+
+    private static final String INSERT_SQL =
+            "INSERT INTO menus (user_id, menu_name, picture, price, description, menu_option, category, is_deleted) "
+                    + "VALUES (?, ?, ?, ?, ?, ?, ?, false)";
+
+    // 선택 컬럼은 행마다 "값이 들어왔는지" 플래그로 덮어쓸지 결정 (SQL 하나로 batch 유지)
+    private static final String UPDATE_SQL =
+            "UPDATE menus SET price = ?, "
+                    + "picture = CASE WHEN ? THEN ? ELSE picture END, "
+                    + "description = CASE WHEN ? THEN ? ELSE description END, "
+                    + "menu_option = CASE WHEN ? THEN ? ELSE menu_option END, "
+                    + "category = CASE WHEN ? THEN ? ELSE category END "
+                    + "WHERE menu_id = ?";
+
+    private static final String FIND_IDS_SQL =
+            "SELECT menu_id, menu_name FROM menus "
+                    + "WHERE user_id = :ownerId AND is_deleted = false AND menu_name IN (:names)";
+
+    private static final String INSERT_GROUP_SQL =
+            "INSERT INTO menu_option_groups (menu_id, name, is_required, max_select, sort_order) "
+                    + "VALUES (?, ?, ?, ?, ?)";
+
+    private static final String FIND_GROUP_IDS_SQL =
+            "SELECT option_group_id, menu_id, sort_order FROM menu_option_groups WHERE menu_id IN (:menuIds)";
+
+    private static final String INSERT_CHOICE_SQL =
+            "INSERT INTO menu_option_choices (option_group_id, name, price, sort_order) VALUES (?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    /**
+     * @param menu 수정할 메뉴와 새 값 (이름은 매칭 키라서 바꾸지 않음)
+     * @param columns 덮어쓸 선택 컬럼 (PICTURE, DESCRIPTION, OPTION, CATEGORY), 없는 컬럼은 기존 값 유지
+     */
+    public record MenuUpdate(Long menuId, MenuUpsertRequest menu, Set<String> columns) {}
+
+    public void insertAll(Long ownerId, List<MenuUpsertRequest> menus) {
+        if (menus.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, menus, menus.size(), (ps, m) -> {
+            ps.setLong(1, ownerId);
+            ps.setString(2, m.menuName());
+            ps.setString(3, m.picture());
+            ps.setInt(4, m.price());
+            ps.setString(5, m.description());
+            ps.setString(6, m.option());
+            ps.setString(7, m.category());
+        });
+    }
+
+    public void updateAll(List<MenuUpdate> updates) {
+        if (updates.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(UPDATE_SQL, updates, updates.size(), (ps, u) -> {
+            MenuUpsertRequest m = u.menu();
+            ps.setInt(1, m.price());
+            ps.setBoolean(2, u.columns().contains(PICTURE));
+            ps.setString(3, m.picture());
+            ps.setBoolean(4, u.columns().contains(DESCRIPTION));
+            ps.setString(5, m.description());
+            ps.setBoolean(6, u.columns().contains(OPTION));
+            ps.setString(7, m.option());
+            ps.setBoolean(8, u.columns().contains(CATEGORY));
+            ps.setString(9, m.category());
+            ps.setLong(10, u.menuId());
+        });
+    }
+
+    /**
+     * 방금 등록한 메뉴의 id (메뉴명 -> menuId)
+     */
+    public Map<String, Long> findIdsByMenuName(Long ownerId, Collection<String> names) {
+        Map<String, Long> ids = new HashMap<>();
+        if (names.isEmpty()) {
+            return ids;
+        }
+        MapSqlParameterSource params = new MapSqlParameterSource("ownerId", ownerId).addValue("names", names);
+        namedParameterJdbcTemplate.query(FIND_IDS_SQL, params,
+                rs -> { ids.putIfAbsent(rs.getString("menu_name"), rs.getLong("menu_id")); });
+        return ids;
+    }
+
+    /**
+     * 옵션 그룹/선택지 일괄 등록 (그룹 batch -> 그룹 id 한 번에 조회 -> 선택지 batch)
+     * - 대상 메뉴에는 기존 그룹이 없어야 함 (방금 등록한 메뉴)
+     * @param groupsByMenu menuId -> 저장 전 옵션 그룹 (선택지 포함, 메뉴 안에서 sortOrder가 유일)
+     */
+    public void insertOptionGroups(Map<Long, List<MenuOptionGroup>> groupsByMenu) {
+        List<Map.Entry<Long, MenuOptionGroup>> groups = new ArrayList<>();
+        groupsByMenu.forEach((menuId, list) -> list.forEach(g -> groups.add(Map.entry(menuId, g))));
+        if (groups.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT_GROUP_SQL, groups, groups.size(), (ps, e) -> {
+            MenuOptionGroup g = e.getValue();
+            ps.setLong(1, e.getKey());
+            ps.setString(2, g.getName());
+            ps.setBoolean(3, g.isRequired());
+            ps.setInt(4, g.getMaxSelect());
+            ps.setInt(5, g.getSortOrder());
+        });
+
+        Map<String, Long> groupIds = new HashMap<>();
+        namedParameterJdbcTemplate.query(FIND_GROUP_IDS_SQL,
+                new MapSqlParameterSource("menuIds", groupsByMenu.keySet()),
+                rs -> { groupIds.put(rs.getLong("menu_id") + ":" + rs.getInt("sort_order"), rs.getLong("option_group_id")); });
+
+        List<Map.Entry<Long, MenuOptionChoice>> choices = new ArrayList<>();
+        for (Map.Entry<Long, MenuOptionGroup> e : groups) {
+            Long groupId = groupIds.get(e.getKey() + ":" + e.getValue().getSortOrder());
+            e.getValue().getChoices().forEach(c -> choices.add(Map.entry(groupId, c)));
+        }
+        if (choices.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT_CHOICE_SQL, choices, choices.size(), (ps, e) -> {
+            MenuOptionChoice c = e.getValue();
+            ps.setLong(1, e.getKey());
+            ps.setString(2, c.getName());
+            ps.setInt(3, c.getPrice());
+            ps.setInt(4, c.getSortOrder());
+        });
+    }
+}
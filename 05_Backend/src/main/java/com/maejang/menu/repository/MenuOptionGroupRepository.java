@@ -0,0 +1,29 @@
+package com.maejang.menu.repository;
+
+import com.maejang.menu.domain.MenuOptionGroup;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface MenuOptionGroupRepository extends JpaRepository<MenuOptionGroup, Long> {
+
+    /**
+     * 여러 메뉴의 옵션 그룹/선택지를 한 번에 조회 (메뉴 순, 그룹 순, 선택지 순)
+     */
+    @Query("""
+            SELECT new com.maejang.menu.repository.MenuOptionRow(
+                g.menu.menuId, g.id, g.name, g.required, g.maxSelect, c.id, c.name, c.price)
+            FROM MenuOptionGroup g JOIN g.choices c
+            WHERE g.menu.menuId IN :menuIds
+            ORDER BY g.menu.menuId, g.sortOrder, g.id, c.sortOrder, c.id
+            """)
+    List<MenuOptionRow> findRowsByMenuIds(@Param("menuIds") Collection<Long> menuIds);
+
+    /**
+     * 옵션 그룹 엔티티 + 선택지 (메뉴 옵션을 제자리에서 수정할 때)
+     */
+    @Query("SELECT DISTINCT g FROM MenuOptionGroup g LEFT JOIN FETCH g.choices WHERE g.menu.menuId IN :menuIds")
+    List<MenuOptionGroup> findWithChoicesByMenuIds(@Param("menuIds") Collection<Long> menuIds);
+}
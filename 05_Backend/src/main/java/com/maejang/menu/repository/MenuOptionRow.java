@@ -0,0 +1,16 @@
+package com.maejang.menu.repository;
+
+/**
+ * 옵션 그룹 + 선택지 한 행 (메뉴 목록 캐시 구성용 projection)
+ */
+public record MenuOptionRow(
+        Long menuId,
+        Long groupId,
+        String groupName,
+        boolean required,
+        int maxSelect,
+        Long choiceId,
+        String choiceName,
+        int choicePrice
+) {
+}
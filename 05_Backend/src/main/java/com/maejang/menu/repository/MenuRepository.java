@@ -1,11 +1,63 @@
 package com.maejang.menu.repository;
 
 import com.maejang.menu.domain.Menu;
+import com.maejang.menu.dto.response.MenuResponse;
+import java.util.Collection;
 import java.util.List;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface MenuRepository extends JpaRepository<Menu, Long> {
     List<Menu> findByOwnerId(Long ownerId);
-}
 
+    /**
+     * 사장 메뉴 목록을 응답 DTO로 바로 조회 (owner 프록시 초기화 없음, FK 컬럼만 사용)
+     */
+    @Query("""
+            SELECT new com.maejang.menu.dto.response.MenuResponse(
+                m.menuId, m.owner.id, m.menuName, m.picture, m.price, m.description, m.option, m.category)
+            FROM Menu m WHERE m.owner.id = :ownerId
+            ORDER BY m.menuId
+            """)
+    List<MenuResponse> findResponsesByOwnerId(@Param("ownerId") Long ownerId);
+
+    /**
+     * 사장 메뉴 keyset 페이지 (menuId 오름차순, cursorId 다음부터)
+     */
+    @Query("""
+            SELECT new com.maejang.menu.dto.response.MenuResponse(
+                m.menuId, m.owner.id, m.menuName, m.picture, m.price, m.description, m.option, m.category)
+            FROM Menu m WHERE m.owner.id = :ownerId AND m.menuId > :cursorId
+            ORDER BY m.menuId
+            """)
+    List<MenuResponse> findResponsePage(@Param("ownerId") Long ownerId, @Param("cursorId") Long cursorId, Limit limit);
+
+    /**
+     * 전체 메뉴를 menuId 순서로 나눠 읽기 (검색 인덱스 초기 구성용, 한 번에 전부 올리지 않음)
+     */
+    @Query("""
+            SELECT new com.maejang.menu.dto.response.MenuResponse(
+                m.menuId, m.owner.id, m.menuName, m.picture, m.price, m.description, m.option, m.category)
+            FROM Menu m WHERE m.menuId > :cursorId
+            ORDER BY m.menuId
+            """)
+    List<MenuResponse> findResponsesAfter(@Param("cursorId") Long cursorId, Limit limit);
 
+    /**
+     * 메뉴 + 옵션 그룹 (선택지는 MenuOptionGroupRepository.findWithChoicesByMenuIds로 같이 로딩)
+     */
+    @Query("SELECT DISTINCT m FROM Menu m LEFT JOIN FETCH m.optionGroups WHERE m.menuId IN :menuIds")
+    List<Menu> findWithOptionGroupsByMenuIdIn(@Param("menuIds") Collection<Long> menuIds);
+
+    /**
+     * option 문자열만 있고 옵션 그룹은 아직 없는 메뉴 (구조화 이전 데이터)
+     */
+    @Query("""
+            SELECT m FROM Menu m
+            WHERE m.option IS NOT NULL AND m.option <> ''
+              AND NOT EXISTS (SELECT 1 FROM MenuOptionGroup g WHERE g.menu = m)
+            """)
+    List<Menu> findWithoutOptionGroups();
+}
@@ -0,0 +1,149 @@
+package com.maejang.menu.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.maejang.global.response.JSONResponse;
+import com.maejang.menu.dto.response.MenuOptionGroupResponse;
+import com.maejang.menu.dto.response.MenuResponse;
+import com.maejang.menu.event.MenuChangedEvent;
+import com.maejang.menu.repository.MenuOptionGroupRepository;
+import com.maejang.menu.repository.MenuOptionRow;
+import com.maejang.menu.repository.MenuRepository;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 사장(가게)별 메뉴 목록 스냅샷 캐시
+ * - 메뉴 목록(옵션 그룹 포함) + 응답 JSON 바이트 + ETag(내용 해시)를 한 번 만들어 두고 재사용
+ * - 메뉴가 바뀌면(MenuChangedEvent, 커밋 이후) 버전을 올려 다음 조회 때 다시 생성
+ * - 메뉴가 없는 id(없는 사용자/고객/메뉴 없는 사장)는 캐시하지 않음: 비로그인 조회로 임의 id를 넣어도 map이 늘지 않음
+ */
+@RequiredArgsConstructor
+@Service
+public class MenuCatalogCache {
+
+    private final MenuRepository menuRepository;
+    private final MenuOptionGroupRepository menuOptionGroupRepository;
+    private final ObjectMapper objectMapper;
+
+    private static final int MAX_CATALOGS = 10_000;
+
+    // 메뉴 변경 이벤트가 온 사장만 들어감 (없으면 버전 0)
+    private final Map<Long, AtomicLong> versions = new ConcurrentHashMap<>();
+    private final Map<Long, Catalog> catalogs = new ConcurrentHashMap<>();
+
+    public Catalog get(Long ownerId) {
+        AtomicLong counter = versions.get(ownerId);
+        long version = counter == null ? 0 : counter.get();
+        Catalog cached = catalogs.get(ownerId);
+        if (cached != null && cached.version() == version) {
+            return cached;
+        }
+        Catalog built = build(ownerId, version);
+        if (built.menus().isEmpty()) {
+            return built;
+        }
+        if (catalogs.size() >= MAX_CATALOGS && !catalogs.containsKey(ownerId)) {
+            catalogs.clear();
+        }
+        // 만드는 동안 무효화됐다면 더 새로운 버전이 이김 (오래된 스냅샷이 남아도 다음 조회 때 버전 불일치로 재생성)
+        catalogs.merge(ownerId, built, (old, neu) -> old.version() >= neu.version() ? old : neu);
+        return built;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onMenuChanged(MenuChangedEvent event) {
+        versions.computeIfAbsent(event.ownerId(), id -> new AtomicLong()).incrementAndGet();
+        catalogs.remove(event.ownerId());
+    }
+
+    private Catalog build(Long ownerId, long version) {
+        List<MenuResponse> rows = menuRepository.findResponsesByOwnerId(ownerId);
+        Map<Long, List<MenuOptionGroupResponse>> groupsByMenu = rows.isEmpty()
+                ? Map.of()
+                : groupOptions(menuOptionGroupRepository.findRowsByMenuIds(rows.stream().map(MenuResponse::menuId).toList()));
+
+        List<MenuResponse> menus = new ArrayList<>(rows.size());
+        Map<Long, OptionChoice> choices = new HashMap<>();
+        for (MenuResponse row : rows) {
+            List<MenuOptionGroupResponse> groups = groupsByMenu.getOrDefault(row.menuId(), List.of());
+            menus.add(row.withOptionGroups(groups));
+            for (MenuOptionGroupResponse group : groups) {
+                for (MenuOptionGroupResponse.ChoiceResponse choice : group.choices()) {
+                    choices.put(choice.choiceId(), new OptionChoice(row.menuId(), group, choice));
+                }
+            }
+        }
+
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(JSONResponse.success(menus));
+            return new Catalog(version, List.copyOf(menus), Map.copyOf(groupsByMenu), Map.copyOf(choices), json, etag(json));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("메뉴 목록 직렬화 실패", e);
+        }
+    }
+
+    /**
+     * (메뉴, 그룹, 선택지) 정렬된 행 -> 메뉴별 그룹 목록
+     */
+    private static Map<Long, List<MenuOptionGroupResponse>> groupOptions(List<MenuOptionRow> rows) {
+        Map<Long, List<MenuOptionGroupResponse>> result = new HashMap<>();
+        Long currentGroupId = null;
+        MenuOptionRow groupHead = null;
+        List<MenuOptionGroupResponse.ChoiceResponse> groupChoices = new ArrayList<>();
+        for (MenuOptionRow row : rows) {
+            if (!row.groupId().equals(currentGroupId)) {
+                flushGroup(result, groupHead, groupChoices);
+                currentGroupId = row.groupId();
+                groupHead = row;
+                groupChoices = new ArrayList<>();
+            }
+            groupChoices.add(new MenuOptionGroupResponse.ChoiceResponse(row.choiceId(), row.choiceName(), row.choicePrice()));
+        }
+        flushGroup(result, groupHead, groupChoices);
+        result.replaceAll((menuId, groups) -> List.copyOf(groups));
+        return result;
+    }
+
+    private static void flushGroup(Map<Long, List<MenuOptionGroupResponse>> result, MenuOptionRow head,
+                                   List<MenuOptionGroupResponse.ChoiceResponse> choices) {
+        if (head == null) {
+            return;
+        }
+        result.computeIfAbsent(head.menuId(), id -> new ArrayList<>()).add(new MenuOptionGroupResponse(
+                head.groupId(), head.groupName(), head.required(), head.maxSelect(), List.copyOf(choices)));
+    }
+
+    private static String etag(byte[] json) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(json);
+            return "\"" + HexFormat.of().formatHex(hash, 0, 16) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * @param groupsByMenu 메뉴별 옵션 그룹 (주문 검증 시 필수 그룹 확인)
+     * @param choices 선택지 id -> 선택지 (주문/장바구니 옵션 검증·가격 계산을 해시 조회로 처리)
+     * @param json JSONResponse.success(menus)를 직렬화한 응답 본문 (UTF-8)
+     * @param etag 강한 ETag (본문 SHA-256 앞 16바이트)
+     */
+    public record Catalog(long version, List<MenuResponse> menus, Map<Long, List<MenuOptionGroupResponse>> groupsByMenu,
+                          Map<Long, OptionChoice> choices, byte[] json, String etag) {
+    }
+
+    public record OptionChoice(Long menuId, MenuOptionGroupResponse group, MenuOptionGroupResponse.ChoiceResponse choice) {
+    }
+}
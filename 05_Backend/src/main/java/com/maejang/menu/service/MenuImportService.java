@@ -0,0 +1,239 @@
+package com.maejang.menu.service;
+
+import com.maejang.global.exception.CustomException;
+import com.maejang.global.exception.ErrorCode;
+import com.maejang.global.util.CsvParser;
+import com.maejang.menu.domain.Menu;
+import com.maejang.menu.domain.MenuOptionGroup;
+import com.maejang.menu.dto.request.MenuUpsertRequest;
+import com.maejang.menu.dto.response.MenuImportResponse;
+import com.maejang.menu.dto.response.MenuResponse;
+import com.maejang.menu.event.MenuChangedEvent;
+import com.maejang.menu.repository.MenuBatchRepository;
+import com.maejang.menu.repository.MenuBatchRepository.MenuUpdate;
+import com.maejang.menu.repository.MenuOptionGroupRepository;
+import com.maejang.menu.repository.MenuRepository;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 메뉴 일괄 등록/수정 (JSON 또는 CSV)
+ * - 같은 사장의 같은 메뉴명이 있으면 수정, 없으면 등록
+ * - 수정은 들어온 컬럼만 덮어씀 (CSV는 헤더에 있는 컬럼, JSON은 null이 아닌 필드, 빈 값은 비우기)
+ * - option 문자열이 바뀐 메뉴는 기존 선택지를 이름으로 매칭해서 제자리 갱신 (선택지 id 유지)
+ * - 행별로 검증해서 오류 행만 건너뜀, 나머지는 한 트랜잭션에서 JDBC batch로 저장
+ * - 메뉴 캐시/검색 색인 무효화는 마지막에 한 번만
+ */
+@RequiredArgsConstructor
+@Service
+public class MenuImportService {
+
+    private static final int MAX_ROWS = 1000;
+    private static final String[] CSV_COLUMNS = {"menuname", "price", "description", "category", "option", "picture"};
+    private static final List<String> OPTIONAL_COLUMNS = List.of(
+            MenuBatchRepository.PICTURE, MenuBatchRepository.DESCRIPTION,
+            MenuBatchRepository.OPTION, MenuBatchRepository.CATEGORY);
+
+    private final MenuRepository menuRepository;
+    private final MenuBatchRepository menuBatchRepository;
+    private final MenuOptionGroupRepository menuOptionGroupRepository;
+    private final MenuOptionPricer menuOptionPricer;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Transactional
+    public MenuImportResponse importJson(Long ownerId, List<MenuUpsertRequest> rows) {
+        if (rows == null || rows.isEmpty() || rows.size() > MAX_ROWS) {
+            throw new CustomException(ErrorCode.INVALID_INPUT);
+        }
+        return importRows(ownerId, rows, null, new ArrayList<>());
+    }
+
+    /**
+     * 첫 줄은 헤더 (menuName, price 필수 / description, category, option, picture 선택, 순서 무관)
+     */
+    @Transactional
+    public MenuImportResponse importCsv(Long ownerId, String csv) {
+        List<List<String>> lines;
+        try {
+            lines = CsvParser.parse(csv == null ? "" : csv);
+        } catch (IllegalArgumentException e) {
+            throw new CustomException(ErrorCode.INVALID_INPUT);
+        }
+        if (lines.size() < 2 || lines.size() - 1 > MAX_ROWS) {
+            throw new CustomException(ErrorCode.INVALID_INPUT);
+        }
+
+        Map<String, Integer> header = new HashMap<>();
+        List<String> headerLine = lines.get(0);
+        for (int i = 0; i < headerLine.size(); i++) {
+            header.put(headerLine.get(i).trim().toLowerCase(Locale.ROOT), i);
+        }
+        if (!header.containsKey(CSV_COLUMNS[0]) || !header.containsKey(CSV_COLUMNS[1])) {
+            throw new CustomException(ErrorCode.INVALID_INPUT);
+        }
+        Set<String> columns = new HashSet<>();
+        for (String column : OPTIONAL_COLUMNS) {
+            if (header.containsKey(column)) {
+                columns.add(column);
+            }
+        }
+
+        List<MenuImportResponse.RowError> errors = new ArrayList<>();
+        List<MenuUpsertRequest> rows = new ArrayList<>();
+        for (int i = 1; i < lines.size(); i++) {
+            List<String> line = lines.get(i);
+            String price = cell(line, header, "price");
+            try {
+                rows.add(new MenuUpsertRequest(
+                        cell(line, header, "menuname"),
+                        cell(line, header, "picture"),
+                        price == null ? -1 : Integer.parseInt(price),
+                        cell(line, header, "description"),
+                        cell(line, header, "option"),
+                        cell(line, header, "category"),
+                        null));
+            } catch (NumberFormatException e) {
+                errors.add(new MenuImportResponse.RowError(i, "price가 숫자가 아닙니다."));
+                rows.add(null); // 행 번호 유지
+            }
+        }
+        return importRows(ownerId, rows, columns, errors);
+    }
+
+    /**
+     * @param csvColumns CSV 헤더에 있는 선택 컬럼 (JSON이면 null -> 행마다 null이 아닌 필드)
+     */
+    private MenuImportResponse importRows(Long ownerId, List<MenuUpsertRequest> rows, Set<String> csvColumns,
+                                          List<MenuImportResponse.RowError> errors) {
+        Map<String, MenuResponse> existing = new HashMap<>();
+        for (MenuResponse menu : menuRepository.findResponsesByOwnerId(ownerId)) {
+            existing.putIfAbsent(menu.menuName(), menu);
+        }
+
+        List<MenuUpsertRequest> inserts = new ArrayList<>();
+        List<MenuUpdate> updates = new ArrayList<>();
+        // option 문자열이 바뀐 메뉴 -> 새 option 문자열
+        Map<Long, String> changedOptions = new LinkedHashMap<>();
+        Set<String> seen = new HashSet<>();
+        for (int i = 0; i < rows.size(); i++) {
+            MenuUpsertRequest row = rows.get(i);
+            if (row == null) {
+                continue;
+            }
+            int rowNumber = i + 1;
+            String error = validate(row);
+            if (error == null && !seen.add(row.menuName().trim())) {
+                error = "같은 메뉴명이 파일 안에 중복되어 있습니다.";
+            }
+            if (error != null) {
+                errors.add(new MenuImportResponse.RowError(rowNumber, error));
+                continue;
+            }
+            Set<String> columns = csvColumns != null ? csvColumns : presentColumns(row);
+            MenuUpsertRequest normalized = normalize(row);
+            MenuResponse current = existing.get(normalized.menuName());
+            if (current == null) {
+                inserts.add(normalized);
+                continue;
+            }
+            updates.add(new MenuUpdate(current.menuId(), normalized, columns));
+            if (columns.contains(MenuBatchRepository.OPTION)
+                    && !menuOptionPricer.sameDefinition(current.option(), normalized.option())) {
+                changedOptions.put(current.menuId(), normalized.option());
+            }
+        }
+
+        menuBatchRepository.insertAll(ownerId, inserts);
+        menuBatchRepository.updateAll(updates);
+
+        mergeChangedOptions(changedOptions);
+
+        // 새 메뉴는 기존 선택지가 없으니 option 문자열에서 옵션 그룹을 바로 만듦 (JDBC batch)
+        Map<String, String> newOptions = new HashMap<>();
+        for (MenuUpsertRequest insert : inserts) {
+            if (insert.option() != null) {
+                newOptions.put(insert.menuName(), insert.option());
+            }
+        }
+        Map<Long, List<MenuOptionGroup>> groups = new LinkedHashMap<>();
+        menuBatchRepository.findIdsByMenuName(ownerId, newOptions.keySet())
+                .forEach((name, menuId) -> groups.put(menuId, menuOptionPricer.legacyGroups(newOptions.get(name))));
+        menuBatchRepository.insertOptionGroups(groups);
+
+        if (!inserts.isEmpty() || !updates.isEmpty()) {
+            eventPublisher.publishEvent(new MenuChangedEvent(ownerId));
+        }
+        errors.sort((a, b) -> Integer.compare(a.row(), b.row()));
+        return new MenuImportResponse(inserts.size(), updates.size(), List.copyOf(errors));
+    }
+
+    /**
+     * option 문자열이 바뀐 메뉴만 옵션 그룹/선택지와 함께 로딩해서 제자리 병합 (MenuService.update의 구 형식 수정과 같은 규칙)
+     * - 남는 선택지는 id 유지 -> 장바구니에 저장된 선택지 id가 그대로 유효
+     * - 사장이 정한 그룹 구조(필수 여부/최대 선택 수)도 유지
+     */
+    private void mergeChangedOptions(Map<Long, String> changedOptions) {
+        if (changedOptions.isEmpty()) {
+            return;
+        }
+        List<Menu> menus = menuRepository.findWithOptionGroupsByMenuIdIn(changedOptions.keySet());
+        menuOptionGroupRepository.findWithChoicesByMenuIds(changedOptions.keySet()); // 선택지 컬렉션 초기화
+        for (Menu menu : menus) {
+            List<MenuOptionGroup> legacy = menuOptionPricer.legacyGroups(changedOptions.get(menu.getMenuId()));
+            menu.mergeLegacyOptions(legacy.isEmpty() ? null : legacy.get(0));
+        }
+    }
+
+    private static String validate(MenuUpsertRequest row) {
+        if (row.menuName() == null || row.menuName().isBlank()) return "menuName은 필수입니다.";
+        if (row.menuName().trim().length() > 200) return "menuName은 200자 이하여야 합니다.";
+        if (row.price() < 0) return "price는 0 이상이어야 합니다.";
+        if (tooLong(row.picture(), 1000)) return "picture는 1000자 이하여야 합니다.";
+        if (tooLong(row.description(), 1000)) return "description은 1000자 이하여야 합니다.";
+        if (tooLong(row.option(), 1000)) return "option은 1000자 이하여야 합니다.";
+        if (tooLong(row.category(), 50)) return "category는 50자 이하여야 합니다.";
+        if (row.optionGroups() != null) return "일괄 등록에서는 optionGroups 대신 option 문자열을 사용해야 합니다.";
+        return null;
+    }
+
+    private static boolean tooLong(String value, int max) {
+        return value != null && value.length() > max;
+    }
+
+    private static Set<String> presentColumns(MenuUpsertRequest row) {
+        Set<String> columns = new HashSet<>();
+        if (row.picture() != null) columns.add(MenuBatchRepository.PICTURE);
+        if (row.description() != null) columns.add(MenuBatchRepository.DESCRIPTION);
+        if (row.option() != null) columns.add(MenuBatchRepository.OPTION);
+        if (row.category() != null) columns.add(MenuBatchRepository.CATEGORY);
+        return columns;
+    }
+
+    private static MenuUpsertRequest normalize(MenuUpsertRequest row) {
+        return new MenuUpsertRequest(row.menuName().trim(), blankToNull(row.picture()), row.price(),
+                blankToNull(row.description()), blankToNull(row.option()), blankToNull(row.category()), null);
+    }
+
+    private static String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value.trim();
+    }
+
+    private static String cell(List<String> line, Map<String, Integer> header, String column) {
+        Integer index = header.get(column);
+        if (index == null || index >= line.size()) {
+            return null;
+        }
+        String value = line.get(index).trim();
+        return value.isEmpty() ? null : value;
+    }
+}
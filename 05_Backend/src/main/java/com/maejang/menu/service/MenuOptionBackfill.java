@@ -0,0 +1,54 @@
+package com.maejang.menu.service;
+
+import com.maejang.menu.domain.Menu;
+import com.maejang.menu.event.MenuChangedEvent;
+import com.maejang.menu.repository.MenuRepository;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 옵션 그룹 도입 전에 등록된 메뉴의 option 문자열을 옵션 그룹으로 변환 (시작 시 1회, 이미 변환된 메뉴는 건너뜀)
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class MenuOptionBackfill {
+
+    private final MenuRepository menuRepository;
+    private final MenuOptionPricer menuOptionPricer;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Transactional
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        List<Menu> menus = menuRepository.findWithoutOptionGroups();
+        if (menus.isEmpty()) {
+            return;
+        }
+        Set<Long> owners = new HashSet<>();
+        for (Menu menu : menus) {
+            owners.add(menu.getOwner().getId());
+        }
+        convert(menus);
+        // 커밋 이후 메뉴 캐시/검색 색인 갱신
+        owners.forEach(ownerId -> eventPublisher.publishEvent(new MenuChangedEvent(ownerId)));
+        log.info("옵션 문자열 -> 옵션 그룹 변환 완료: {}개 메뉴", menus.size());
+    }
+
+    /**
+     * 호출한 트랜잭션 안에서 option 문자열 -> 옵션 그룹 변환 (이벤트 발행은 호출한 쪽에서)
+     */
+    public void convert(List<Menu> menus) {
+        for (Menu menu : menus) {
+            menu.replaceOptionGroups(menuOptionPricer.legacyGroups(menu.getOption()));
+        }
+    }
+}
@@ -0,0 +1,211 @@
+package com.maejang.menu.service;
+
+import com.maejang.global.exception.CustomException;
+import com.maejang.global.exception.ErrorCode;
+import com.maejang.menu.domain.Menu;
+import com.maejang.menu.domain.MenuOptionChoice;
+import com.maejang.menu.domain.MenuOptionGroup;
+import com.maejang.menu.dto.response.MenuOptionGroupResponse;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 메뉴 옵션 검증/가격 계산
+ * - 구조화된 옵션(선택지 id)과 구 형식 Menu.option 문자열("국물추가+500,곱빼기+1000")을 모두 처리
+ * - 구 형식 옵션명도 그룹이 있는 메뉴에서는 선택지로 바꿔 필수/최대 선택 개수를 똑같이 검증
+ * - 고객 화면(06_Food_Details)과 같은 "옵션명+가격" 규칙, 가격이 없으면 0원
+ * - 파싱 결과는 option 문자열 자체를 키로 캐시 -> 메뉴가 수정되면 문자열이 바뀌므로 자연스럽게 새 버전으로 파싱
+ */
+@RequiredArgsConstructor
+@Component
+public class MenuOptionPricer {
+
+    private static final Pattern OPTION_PATTERN = Pattern.compile("^(.+?)\\+(\\d+)$");
+    private static final int MAX_CACHE_SIZE = 10_000;
+    private static final String LEGACY_GROUP_NAME = "옵션";
+
+    private final MenuCatalogCache menuCatalogCache;
+
+    private final Map<String, Map<String, Integer>> cache = new ConcurrentHashMap<>();
+
+    /**
+     * 주문/장바구니 한 줄의 옵션 선택 검증 + 가격 계산
+     * - choiceIds가 있으면 메뉴 캐시의 선택지 맵에서 해시 조회 (필수 그룹/최대 선택 개수 확인)
+     * - 없으면 구 클라이언트로 보고 option 문자열 사용
+     *   구조화된 그룹이 있는 메뉴는 옵션명을 선택지로 바꿔 같은 그룹 검증, 그룹이 없으면(백필 전) 문자열을 파싱
+     */
+    public SelectedOptions select(Menu menu, List<Long> choiceIds, String legacyOption) {
+        MenuCatalogCache.Catalog catalog = menuCatalogCache.get(menu.getOwner().getId());
+        if (choiceIds == null || choiceIds.isEmpty()) {
+            List<MenuOptionGroupResponse> groups = catalog.groupsByMenu().getOrDefault(menu.getMenuId(), List.of());
+            if (!groups.isEmpty()) {
+                return validate(menu, catalog, resolveLegacy(groups, legacyOption));
+            }
+            String label = legacyOption == null || legacyOption.isBlank() ? null : legacyOption;
+            return new SelectedOptions(label, null, priceOf(menu, legacyOption));
+        }
+        return validate(menu, catalog, choiceIds);
+    }
+
+    private SelectedOptions validate(Menu menu, MenuCatalogCache.Catalog catalog, List<Long> choiceIds) {
+        Map<Long, Integer> selectedPerGroup = new HashMap<>();
+        Set<Long> seen = new HashSet<>();
+        StringJoiner label = new StringJoiner(",");
+        StringJoiner ids = new StringJoiner(",");
+        int price = 0;
+        for (Long choiceId : choiceIds) {
+            MenuCatalogCache.OptionChoice option = catalog.choices().get(choiceId);
+            if (option == null || !option.menuId().equals(menu.getMenuId()) || !seen.add(choiceId)) {
+                throw new CustomException(ErrorCode.INVALID_MENU_OPTION);
+            }
+            int selected = selectedPerGroup.merge(option.group().groupId(), 1, Integer::sum);
+            if (selected > option.group().maxSelect()) {
+                throw new CustomException(ErrorCode.INVALID_MENU_OPTION);
+            }
+            label.add(option.choice().name());
+            ids.add(String.valueOf(choiceId));
+            price += option.choice().price();
+        }
+        for (MenuOptionGroupResponse group : catalog.groupsByMenu().getOrDefault(menu.getMenuId(), List.of())) {
+            if (group.required() && !selectedPerGroup.containsKey(group.groupId())) {
+                throw new CustomException(ErrorCode.INVALID_MENU_OPTION);
+            }
+        }
+        return new SelectedOptions(label.length() == 0 ? null : label.toString(),
+                ids.length() == 0 ? null : ids.toString(), price);
+    }
+
+    /**
+     * 구 형식 옵션명(쉼표 구분) -> 선택지 id
+     * @throws CustomException 없는 옵션명이거나 여러 그룹에 같은 이름이 있어 선택지를 정할 수 없는 경우
+     */
+    private static List<Long> resolveLegacy(List<MenuOptionGroupResponse> groups, String legacyOption) {
+        if (legacyOption == null || legacyOption.isBlank()) {
+            return List.of();
+        }
+        Map<String, Long> byName = new HashMap<>();
+        Set<String> ambiguous = new HashSet<>();
+        for (MenuOptionGroupResponse group : groups) {
+            for (MenuOptionGroupResponse.ChoiceResponse choice : group.choices()) {
+                if (byName.putIfAbsent(choice.name(), choice.choiceId()) != null) {
+                    ambiguous.add(choice.name());
+                }
+            }
+        }
+        List<Long> ids = new ArrayList<>();
+        for (String name : legacyOption.split(",")) {
+            String trimmed = name.trim();
+            if (trimmed.isEmpty()) continue;
+            Long id = byName.get(trimmed);
+            if (id == null || ambiguous.contains(trimmed)) {
+                throw new CustomException(ErrorCode.INVALID_MENU_OPTION);
+            }
+            ids.add(id);
+        }
+        return ids;
+    }
+
+    /**
+     * 두 option 문자열이 같은 선택지(이름/가격/순서)인지 (구 클라이언트가 수정 없이 다시 보낸 경우 판별)
+     */
+    public boolean sameDefinition(String a, String b) {
+        return List.copyOf(parse(a).entrySet()).equals(List.copyOf(parse(b).entrySet()));
+    }
+
+    /**
+     * 구 형식 option 문자열 -> 옵션 그룹 1개 ("옵션", 선택 사항, 전부 선택 가능)
+     */
+    public List<MenuOptionGroup> legacyGroups(String definition) {
+        Map<String, Integer> options = parse(definition);
+        if (options.isEmpty()) {
+            return List.of();
+        }
+        MenuOptionGroup group = MenuOptionGroup.builder()
+                .name(LEGACY_GROUP_NAME)
+                .required(false)
+                .maxSelect(options.size())
+                .sortOrder(0)
+                .build();
+        int order = 0;
+        for (Map.Entry<String, Integer> e : options.entrySet()) {
+            group.addChoice(MenuOptionChoice.builder().name(e.getKey()).price(e.getValue()).sortOrder(order++).build());
+        }
+        return List.of(group);
+    }
+
+    /**
+     * 선택한 옵션(쉼표 구분 옵션명)의 추가 금액 합계
+     * @throws CustomException 메뉴에 없는 옵션을 선택한 경우
+     */
+    public int priceOf(Menu menu, String selected) {
+        if (selected == null || selected.isBlank()) {
+            return 0;
+        }
+        Map<String, Integer> options = parse(menu.getOption());
+        int total = 0;
+        for (String name : selected.split(",")) {
+            String trimmed = name.trim();
+            if (trimmed.isEmpty()) continue;
+            Integer price = options.get(trimmed);
+            if (price == null) {
+                throw new CustomException(ErrorCode.INVALID_MENU_OPTION);
+            }
+            total += price;
+        }
+        return total;
+    }
+
+    /**
+     * 옵션 정의 문자열 -> (옵션명, 추가금액)
+     */
+    public Map<String, Integer> parse(String definition) {
+        if (definition == null || definition.isBlank()) {
+            return Map.of();
+        }
+        Map<String, Integer> cached = cache.get(definition);
+        if (cached != null) {
+            return cached;
+        }
+        if (cache.size() >= MAX_CACHE_SIZE) {
+            cache.clear();
+        }
+        Map<String, Integer> parsed = doParse(definition);
+        cache.put(definition, parsed);
+        return parsed;
+    }
+
+    private Map<String, Integer> doParse(String definition) {
+        Map<String, Integer> options = new LinkedHashMap<>();
+        for (String raw : definition.split(",")) {
+            String opt = raw.trim();
+            if (opt.isEmpty()) continue;
+            Matcher m = OPTION_PATTERN.matcher(opt);
+            if (m.matches()) {
+                options.put(m.group(1).trim(), Integer.parseInt(m.group(2)));
+            } else {
+                options.put(opt, 0);
+            }
+        }
+        return Collections.unmodifiableMap(options);
+    }
+
+    /**
+     * @param label 표시용 옵션명 (쉼표 구분, 없으면 null)
+     * @param choiceIds 선택지 id (쉼표 구분, 구 형식 주문이면 null)
+     * @param price 옵션 추가 금액 합계
+     */
+    public record SelectedOptions(String label, String choiceIds, int price) {
+    }
+}
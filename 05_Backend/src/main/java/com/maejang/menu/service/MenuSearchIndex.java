@@ -0,0 +1,277 @@
+package com.maejang.menu.service;
+
+import com.maejang.menu.dto.response.MenuResponse;
+import com.maejang.menu.event.MenuChangedEvent;
+import com.maejang.menu.repository.MenuRepository;
+import com.maejang.store.repository.StoreRepository;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 메뉴 검색용 메모리 역색인 (메뉴명/설명/카테고리)
+ * - 한글은 띄어쓰기/조사 때문에 단어 단위로는 부분 일치가 안 되므로 글자 1-gram + 2-gram으로 색인
+ * - 가장 작은 posting(menuId 오름차순)을 앞에서부터 훑으며 원문 포함 여부로 확인, limit개를 채우면 중단
+ *   (전체 후보를 모아 정렬하지 않음 -> 1~2글자 검색어도 limit 근처에서 끝남)
+ * - 시작 시 전체 메뉴로 구성, MenuChangedEvent(커밋 이후)마다 해당 사장 메뉴만 다시 색인
+ */
+@RequiredArgsConstructor
+@Service
+public class MenuSearchIndex {
+
+    private static final int BUILD_CHUNK_SIZE = 1000;
+
+    private final MenuRepository menuRepository;
+    private final StoreRepository storeRepository;
+
+    private final Map<Long, Doc> docs = new ConcurrentHashMap<>();
+    private final Map<Long, Posting> byOwner = new ConcurrentHashMap<>();
+    private final Map<String, Posting> byCategory = new ConcurrentHashMap<>();
+    private final Map<String, Posting> postings = new ConcurrentHashMap<>();
+    // 가게 주인은 바뀌지 않으므로 한 번 조회한 storeId -> ownerId는 계속 사용
+    private final Map<Long, Long> storeOwners = new ConcurrentHashMap<>();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void build() {
+        long cursor = 0L;
+        while (true) {
+            List<MenuResponse> chunk = menuRepository.findResponsesAfter(cursor, Limit.of(BUILD_CHUNK_SIZE));
+            chunk.forEach(this::add);
+            if (chunk.size() < BUILD_CHUNK_SIZE) {
+                break;
+            }
+            cursor = chunk.get(chunk.size() - 1).menuId();
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onMenuChanged(MenuChangedEvent event) {
+        refreshOwner(event.ownerId(), menuRepository.findResponsesByOwnerId(event.ownerId()));
+    }
+
+    /**
+     * @param query 검색어 (공백으로 나눈 단어가 모두 포함된 메뉴)
+     * @param category 카테고리 일치 (대소문자 무시)
+     * @param storeId 특정 가게로 한정
+     * @return menuId 순 최대 limit개 (조건이 하나도 없으면 빈 목록)
+     */
+    public List<MenuResponse> search(String query, String category, Long storeId, int limit) {
+        List<String> words = words(query);
+        String normalizedCategory = normalizeCategory(category);
+
+        Long ownerId = null;
+        if (storeId != null) {
+            Optional<Long> owner = ownerOf(storeId);
+            if (owner.isEmpty()) {
+                return List.of();
+            }
+            ownerId = owner.get();
+        }
+
+        Posting candidates = candidates(words, normalizedCategory, ownerId);
+        if (candidates == null) {
+            return List.of();
+        }
+
+        List<MenuResponse> result = new ArrayList<>(Math.min(limit, 64));
+        for (Long menuId : candidates.ids) {
+            Doc doc = docs.get(menuId);
+            if (doc != null && doc.matches(words, normalizedCategory, ownerId)) {
+                result.add(doc.menu());
+                if (result.size() >= limit) {
+                    break;
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 가장 작은 posting부터 후보로 사용 (나머지 조건은 Doc.matches에서 확인)
+     */
+    private Posting candidates(List<String> words, String category, Long ownerId) {
+        Posting smallest = null;
+        for (String word : words) {
+            for (String gram : grams(word)) {
+                Posting posting = postings.get(gram);
+                if (posting == null) {
+                    return Posting.EMPTY;
+                }
+                if (smallest == null || posting.size < smallest.size) {
+                    smallest = posting;
+                }
+            }
+        }
+        if (category != null) {
+            Posting posting = byCategory.getOrDefault(category, Posting.EMPTY);
+            if (smallest == null || posting.size < smallest.size) {
+                smallest = posting;
+            }
+        }
+        if (ownerId != null) {
+            Posting posting = byOwner.getOrDefault(ownerId, Posting.EMPTY);
+            if (smallest == null || posting.size < smallest.size) {
+                smallest = posting;
+            }
+        }
+        return smallest;
+    }
+
+    private synchronized void refreshOwner(Long ownerId, List<MenuResponse> menus) {
+        Posting previous = byOwner.get(ownerId);
+        if (previous != null) {
+            for (Long menuId : List.copyOf(previous.ids)) {
+                remove(menuId);
+            }
+        }
+        menus.forEach(this::add);
+    }
+
+    private void add(MenuResponse menu) {
+        Doc doc = Doc.of(menu);
+        docs.put(menu.menuId(), doc);
+        byOwner.computeIfAbsent(menu.ownerId(), k -> new Posting()).add(menu.menuId());
+        if (doc.category() != null) {
+            byCategory.computeIfAbsent(doc.category(), k -> new Posting()).add(menu.menuId());
+        }
+        for (String gram : doc.grams()) {
+            postings.computeIfAbsent(gram, k -> new Posting()).add(menu.menuId());
+        }
+    }
+
+    private void remove(Long menuId) {
+        Doc doc = docs.remove(menuId);
+        if (doc == null) {
+            return;
+        }
+        removeFrom(byOwner, doc.menu().ownerId(), menuId);
+        if (doc.category() != null) {
+            removeFrom(byCategory, doc.category(), menuId);
+        }
+        for (String gram : doc.grams()) {
+            removeFrom(postings, gram, menuId);
+        }
+    }
+
+    private static <K> void removeFrom(Map<K, Posting> index, K key, Long menuId) {
+        index.computeIfPresent(key, (k, posting) -> posting.remove(menuId) ? null : posting);
+    }
+
+    private Optional<Long> ownerOf(Long storeId) {
+        Long cached = storeOwners.get(storeId);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        Optional<Long> owner = storeRepository.findOwnerIdById(storeId);
+        owner.ifPresent(id -> storeOwners.put(storeId, id));
+        return owner;
+    }
+
+    private static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        StringBuilder sb = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            sb.append(Character.isLetterOrDigit(c) ? Character.toLowerCase(c) : ' ');
+        }
+        return sb.toString();
+    }
+
+    private static String normalizeCategory(String category) {
+        if (category == null || category.isBlank()) {
+            return null;
+        }
+        return category.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static List<String> words(String text) {
+        List<String> words = new ArrayList<>();
+        for (String word : normalize(text).split(" ")) {
+            if (!word.isEmpty()) words.add(word);
+        }
+        return words;
+    }
+
+    /**
+     * 단어의 2-gram (한 글자 단어면 1-gram)
+     */
+    private static List<String> grams(String word) {
+        if (word.length() == 1) {
+            return List.of(word);
+        }
+        List<String> grams = new ArrayList<>(word.length() - 1);
+        for (int i = 0; i + 2 <= word.length(); i++) {
+            grams.add(word.substring(i, i + 2));
+        }
+        return grams;
+    }
+
+    /**
+     * menuId 오름차순 posting
+     * - ConcurrentSkipListSet.size()는 O(n)이라 크기는 따로 유지 (변경은 색인 lock 안에서만)
+     */
+    private static final class Posting {
+
+        private static final Posting EMPTY = new Posting();
+
+        private final ConcurrentSkipListSet<Long> ids = new ConcurrentSkipListSet<>();
+        private volatile int size;
+
+        void add(Long menuId) {
+            if (ids.add(menuId)) {
+                size++;
+            }
+        }
+
+        /**
+         * @return 제거 후 비었으면 true
+         */
+        boolean remove(Long menuId) {
+            if (ids.remove(menuId)) {
+                size--;
+            }
+            return size == 0;
+        }
+    }
+
+    private record Doc(MenuResponse menu, String text, String category, Set<String> grams) {
+
+        static Doc of(MenuResponse menu) {
+            // 필드 사이에 공백을 넣어 필드 경계를 넘는 부분 일치를 막음
+            String text = String.join(" ",
+                    normalize(menu.menuName()), normalize(menu.description()), normalize(menu.category()));
+            Set<String> grams = new HashSet<>();
+            for (String word : words(text)) {
+                for (int i = 0; i < word.length(); i++) {
+                    grams.add(word.substring(i, i + 1));
+                    if (i + 2 <= word.length()) grams.add(word.substring(i, i + 2));
+                }
+            }
+            return new Doc(menu, " " + text + " ", normalizeCategory(menu.category()), Set.copyOf(grams));
+        }
+
+        boolean matches(List<String> words, String category, Long ownerId) {
+            if (ownerId != null && !ownerId.equals(menu.ownerId())) return false;
+            if (category != null && !category.equals(this.category)) return false;
+            for (String word : words) {
+                if (!text.contains(word)) return false;
+            }
+            return true;
+        }
+    }
+}
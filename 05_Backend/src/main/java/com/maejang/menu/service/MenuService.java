@@ -5,11 +5,22 @@ import com.maejang.global.exception.ErrorCode;
 import com.maejang.menu.dto.request.MenuUpsertRequest;
 import com.maejang.menu.dto.request.MenuUpdateRequest;
 import com.maejang.menu.domain.Menu;
+import com.maejang.menu.domain.MenuOptionChoice;
+import com.maejang.menu.domain.MenuOptionGroup;
+import com.maejang.menu.dto.request.MenuOptionGroupRequest;
+import com.maejang.menu.event.MenuChangedEvent;
+import com.maejang.menu.dto.response.MenuPageResponse;
+import com.maejang.menu.dto.response.MenuResponse;
 import com.maejang.menu.repository.MenuRepository;
+import com.maejang.store.domain.Store;
+import com.maejang.store.repository.StoreRepository;
 import com.maejang.user.domain.User;
 import com.maejang.user.repository.UserRepository;
+import java.util.ArrayList;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -17,8 +28,14 @@ import org.springframework.transaction.annotation.Transactional;
 @Service
 public class MenuService {
 
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final MenuRepository menuRepository;
+    private final StoreRepository storeRepository;
     private final UserRepository userRepository;
+    private final MenuOptionPricer menuOptionPricer;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public Long create(Long ownerId, MenuUpsertRequest req) {
@@ -34,15 +51,30 @@ public class MenuService {
                 .option(req.option())
                 .category(req.category())
                 .build();
-        return menuRepository.save(menu).getMenuId();
+        menu.replaceOptionGroups(toOptionGroups(req.optionGroups(), req.option()));
+        Long menuId = menuRepository.save(menu).getMenuId();
+        eventPublisher.publishEvent(new MenuChangedEvent(ownerId));
+        return menuId;
     }
 
+    /**
+     * 가게 메뉴 페이지 조회 (가게 단위로만 조회, 전체 메뉴 조회는 제공하지 않음)
+     * @param cursor 이전 페이지의 nextCursor (첫 페이지면 null)
+     */
     @Transactional(readOnly = true)
-    public List<Menu> read(Long ownerId) {
-        if (ownerId == null) {
-            return menuRepository.findAll();
+    public MenuPageResponse readPage(Long storeId, Long cursor, Integer size) {
+        Store store = storeRepository.findById(storeId)
+                .orElseThrow(() -> new CustomException(ErrorCode.STORE_NOT_FOUND));
+        int pageSize = size == null ? DEFAULT_PAGE_SIZE : Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+
+        // 한 건 더 조회해서 다음 페이지 존재 여부 판단
+        List<MenuResponse> rows = menuRepository.findResponsePage(store.getOwner().getId(),
+                cursor == null ? 0L : cursor, Limit.of(pageSize + 1));
+        if (rows.size() <= pageSize) {
+            return new MenuPageResponse(rows, null);
         }
-        return menuRepository.findByOwnerId(ownerId);
+        List<MenuResponse> page = rows.subList(0, pageSize);
+        return new MenuPageResponse(page, page.get(pageSize - 1).menuId());
     }
 
     @Transactional
@@ -55,7 +87,41 @@ public class MenuService {
             throw new CustomException(ErrorCode.FORBIDDEN);
         }
 
-        menu.updatePartial(req.menuName(), req.picture(), req.price(), req.description(), req.option(), req.category());
+        menu.updatePartial(req.menuName(), req.picture(), req.price(), req.description(), null, req.category());
+        // 옵션: 구조화된 그룹이 오면 그 구성으로, 구 형식 문자열만 오면 기존 구조를 유지한 채 선택지만 반영
+        // (둘 다 이름 기준 제자리 갱신이라 남는 선택지의 id는 유지됨)
+        if (req.optionGroups() != null) {
+            menu.replaceOptionGroups(toOptionGroups(req.optionGroups(), null));
+        } else if (req.option() != null && !menuOptionPricer.sameDefinition(menu.getOption(), req.option())) {
+            List<MenuOptionGroup> legacy = menuOptionPricer.legacyGroups(req.option());
+            menu.mergeLegacyOptions(legacy.isEmpty() ? null : legacy.get(0));
+        }
+        eventPublisher.publishEvent(new MenuChangedEvent(ownerId));
+    }
+
+    /**
+     * 구조화된 옵션 그룹이 있으면 그대로, 없으면 구 형식 option 문자열을 그룹 1개로 변환
+     */
+    private List<MenuOptionGroup> toOptionGroups(List<MenuOptionGroupRequest> groups, String legacyOption) {
+        if (groups == null) {
+            return menuOptionPricer.legacyGroups(legacyOption);
+        }
+        List<MenuOptionGroup> result = new ArrayList<>(groups.size());
+        for (int i = 0; i < groups.size(); i++) {
+            MenuOptionGroupRequest g = groups.get(i);
+            MenuOptionGroup group = MenuOptionGroup.builder()
+                    .name(g.name())
+                    .required(Boolean.TRUE.equals(g.required()))
+                    .maxSelect(g.maxSelect() == null ? g.choices().size() : g.maxSelect())
+                    .sortOrder(i)
+                    .build();
+            for (int j = 0; j < g.choices().size(); j++) {
+                MenuOptionGroupRequest.ChoiceRequest c = g.choices().get(j);
+                group.addChoice(MenuOptionChoice.builder().name(c.name()).price(c.price()).sortOrder(j).build());
+            }
+            result.add(group);
+        }
+        return result;
     }
 
     @Transactional
@@ -68,6 +134,7 @@ public class MenuService {
         }
 
         menu.delete();
+        eventPublisher.publishEvent(new MenuChangedEvent(ownerId));
     }
 }
 
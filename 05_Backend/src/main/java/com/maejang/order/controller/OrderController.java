@@ -1,24 +1,34 @@
 package com.maejang.order.controller;
 
 import com.maejang.global.response.JSONResponse;
-import com.maejang.order.domain.Order;
+import com.maejang.order.domain.OrderStatus;
 import com.maejang.order.dto.request.OrderCreateRequest;
+import com.maejang.order.dto.request.OrderPageRequest;
+import com.maejang.order.dto.response.OrderDashboardResponse;
 import com.maejang.order.dto.response.OrderIdResponse;
+import com.maejang.order.dto.response.OrderPageResponse;
+import com.maejang.order.dto.response.OrderResponse;
+import com.maejang.order.service.OrderIdempotencyService;
 import com.maejang.order.service.OrderService;
 import com.maejang.auth.security.CustomUserDetails;
 import io.swagger.v3.oas.annotations.Operation;
 import jakarta.validation.Valid;
+import java.time.LocalDate;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @RequiredArgsConstructor
 @RestController
@@ -26,29 +36,49 @@ import org.springframework.web.bind.annotation.RestController;
 public class OrderController {
 
     private final OrderService orderService;
+    private final OrderIdempotencyService orderIdempotencyService;
 
-    @Operation(summary = "주문하기", description = "주문을 생성합니다.")
+    @Operation(summary = "주문하기", description = "주문을 생성합니다. Idempotency-Key 헤더를 보내면 같은 키로 재시도해도 주문은 한 번만 생성되고 최초 주문 id를 돌려줍니다. 같은 키를 다른 요청 본문으로 다시 쓰면 422를 반환합니다.")
     @PostMapping("/create")
     public ResponseEntity<JSONResponse<OrderIdResponse>> create(
             @AuthenticationPrincipal CustomUserDetails principal,
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
             @Valid @RequestBody OrderCreateRequest req
     ) {
-        Long id = orderService.create(principal.getUserId(), req);
+        Long id = orderIdempotencyService.execute(principal.getUserId(), idempotencyKey, req,
+                () -> orderService.create(principal.getUserId(), req, idempotencyKey));
         return ResponseEntity.status(201).body(JSONResponse.success(new OrderIdResponse(id)));
     }
 
     @Operation(summary = "주문 확인(1건)", description = "주문 1건을 조회합니다.")
     @GetMapping("/read")
-    public ResponseEntity<JSONResponse<Order>> read(@RequestParam("orderId") Long orderId) {
-        return ResponseEntity.ok(JSONResponse.success(orderService.read(orderId)));
+    public ResponseEntity<JSONResponse<OrderResponse>> read(
+            @AuthenticationPrincipal CustomUserDetails principal,
+            @RequestParam("orderId") Long orderId
+    ) {
+        return ResponseEntity.ok(JSONResponse.success(orderService.readByCustomer(principal.getUserId(), orderId)));
     }
 
     @Operation(summary = "과거 주문 내역", description = "사용자의 주문 내역을 조회합니다.")
     @GetMapping("/history")
-    public ResponseEntity<JSONResponse<List<Order>>> history(@AuthenticationPrincipal CustomUserDetails principal) {
+    public ResponseEntity<JSONResponse<List<OrderResponse>>> history(@AuthenticationPrincipal CustomUserDetails principal) {
         return ResponseEntity.ok(JSONResponse.success(orderService.history(principal.getUserId())));
     }
 
+    @Operation(summary = "과거 주문 내역(페이지)", description = "사용자의 주문 내역을 최신순 커서 페이지로 조회합니다. 기간/상태를 생략하면 진행중 주문과 오늘 주문만 조회합니다.")
+    @GetMapping("/history/page")
+    public ResponseEntity<JSONResponse<OrderPageResponse<OrderResponse>>> historyPage(
+            @AuthenticationPrincipal CustomUserDetails principal,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", required = false) Integer size,
+            @RequestParam(value = "status", required = false) List<OrderStatus> status,
+            @RequestParam(value = "from", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(value = "to", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to
+    ) {
+        OrderPageRequest req = new OrderPageRequest(cursor, size, status, from, to);
+        return ResponseEntity.ok(JSONResponse.success(orderService.historyPage(principal.getUserId(), req)));
+    }
+
     @Operation(summary = "주문취소", description = "고객이 주문을 취소합니다.")
     @DeleteMapping("/delete")
     public ResponseEntity<JSONResponse<Void>> cancel(
@@ -61,10 +91,42 @@ public class OrderController {
 
     @Operation(summary = "사장 주문조회", description = "사장의 가게에 들어온 주문 목록을 조회합니다.")
     @GetMapping("/check")
-    public ResponseEntity<JSONResponse<List<Order>>> check(@AuthenticationPrincipal CustomUserDetails principal) {
+    public ResponseEntity<JSONResponse<List<OrderResponse>>> check(@AuthenticationPrincipal CustomUserDetails principal) {
         return ResponseEntity.ok(JSONResponse.success(orderService.checkByOwner(principal.getUserId())));
     }
 
+    @Operation(summary = "사장 주문조회(페이지)", description = "사장의 가게 주문을 최신순 커서 페이지로 조회합니다. 기간/상태를 생략하면 진행중 주문과 오늘 주문만 조회합니다.")
+    @GetMapping("/check/page")
+    public ResponseEntity<JSONResponse<OrderPageResponse<OrderResponse>>> checkPage(
+            @AuthenticationPrincipal CustomUserDetails principal,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", required = false) Integer size,
+            @RequestParam(value = "status", required = false) List<OrderStatus> status,
+            @RequestParam(value = "from", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(value = "to", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to
+    ) {
+        OrderPageRequest req = new OrderPageRequest(cursor, size, status, from, to);
+        return ResponseEntity.ok(JSONResponse.success(orderService.checkPageByOwner(principal.getUserId(), req)));
+    }
+
+    @Operation(summary = "사장 대시보드", description = "오늘 들어온 주문 수, 매출, 상태별 건수, 평균 수락/조리/배달 시간을 조회합니다.")
+    @GetMapping("/dashboard")
+    public ResponseEntity<JSONResponse<OrderDashboardResponse>> dashboard(@AuthenticationPrincipal CustomUserDetails principal) {
+        return ResponseEntity.ok(JSONResponse.success(orderService.dashboard(principal.getUserId())));
+    }
+
+    @Operation(summary = "주문 실시간 구독(SSE)", description = "사장은 가게 주문, 고객은 본인 주문의 상태 변경을 실시간으로 받습니다. 재연결 시 Last-Event-ID 헤더(또는 lastEventId 파라미터) 이후 이벤트를 다시 보내줍니다.")
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter stream(
+            @AuthenticationPrincipal CustomUserDetails principal,
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId,
+            // 토큰 재발급 후 새로 여는 EventSource는 헤더를 못 붙이므로 쿼리로 받음
+            @RequestParam(value = "lastEventId", required = false) String lastEventIdParam
+    ) {
+        return orderService.stream(principal.getUserId(), principal.getRole(),
+                lastEventId != null ? lastEventId : lastEventIdParam);
+    }
+
     @Operation(summary = "주문수락", description = "사장이 주문을 수락합니다.")
     @PostMapping("/ok")
     public ResponseEntity<JSONResponse<Void>> ok(@RequestParam("orderId") Long orderId) {
@@ -10,6 +10,7 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
@@ -22,7 +23,15 @@ import lombok.NoArgsConstructor;
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Entity
-@Table(name = "orders") // 'order'는 DB 예약어라 안전하게 orders로 사용
+// 'order'는 DB 예약어라 안전하게 orders로 사용
+// keyset 페이지(order_at DESC, order_id DESC)는 인덱스 역방향 스캔으로 처리 (InnoDB 보조 인덱스 끝에 PK가 붙음)
+@Table(name = "orders", indexes = {
+        @Index(name = "idx_orders_store_order_at", columnList = "store_id, order_at"),
+        @Index(name = "idx_orders_user_order_at", columnList = "user_id, order_at"),
+        @Index(name = "idx_orders_store_status_order_at", columnList = "store_id, order_status, order_at"),
+        @Index(name = "idx_orders_user_status_order_at", columnList = "user_id, order_status, order_at"),
+        @Index(name = "idx_orders_order_at", columnList = "order_at")
+})
 public class Order {
 
     @Id
@@ -44,6 +53,10 @@ public class Order {
     @Column(name = "price", nullable = false)
     private int price;
 
+    // 주문 시점의 배달 구역 배달비 (price는 메뉴 합계)
+    @Column(name = "delivery_fee", nullable = false)
+    private int deliveryFee;
+
     @Column(name = "request", length = 1000)
     private String request;
 
@@ -54,11 +67,22 @@ public class Order {
     @Column(name = "order_at", nullable = false)
     private LocalDateTime orderAt;
 
+    // 단계별 처리 시각 (상태 전이 UPDATE에서 함께 기록)
+    @Column(name = "accepted_at")
+    private LocalDateTime acceptedAt;
+
+    @Column(name = "departed_at")
+    private LocalDateTime departedAt;
+
+    @Column(name = "delivered_at")
+    private LocalDateTime deliveredAt;
+
     @Builder
-    private Order(User user, Store store, int price, String request, OrderStatus condition, LocalDateTime orderAt) {
+    private Order(User user, Store store, int price, int deliveryFee, String request, OrderStatus condition, LocalDateTime orderAt) {
         this.user = user;
         this.store = store;
         this.price = price;
+        this.deliveryFee = deliveryFee;
         this.request = request;
         this.condition = condition;
         this.orderAt = orderAt;
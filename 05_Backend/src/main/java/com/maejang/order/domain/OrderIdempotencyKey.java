@@ -0,0 +1,59 @@
+package com.maejang.order.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 주문 생성 Idempotency-Key 기록 (다중 인스턴스 배포용, order.idempotency.persistent=true일 때만 사용)
+ * - 주문과 같은 트랜잭션에서 저장되므로 "키는 있는데 주문은 없는" 상태가 생기지 않음
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(name = "order_idempotency_keys",
+        uniqueConstraints = @UniqueConstraint(name = "uk_order_idempotency_user_key", columnNames = {"user_id", "idempotency_key"}),
+        indexes = @Index(name = "idx_order_idempotency_created_at", columnList = "created_at"))
+public class OrderIdempotencyKey {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "order_idempotency_key_id")
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "idempotency_key", nullable = false, length = 255)
+    private String idempotencyKey;
+
+    // 요청 본문 SHA-256 (hex), 같은 키를 다른 본문으로 재사용했는지 판단
+    @Column(name = "request_hash", length = 64, columnDefinition = "CHAR(64)")
+    private String requestHash;
+
+    @Column(name = "order_id", nullable = false)
+    private Long orderId;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Builder
+    private OrderIdempotencyKey(Long userId, String idempotencyKey, String requestHash, Long orderId,
+                                LocalDateTime createdAt) {
+        this.userId = userId;
+        this.idempotencyKey = idempotencyKey;
+        this.requestHash = requestHash;
+        this.orderId = orderId;
+        this.createdAt = createdAt;
+    }
+}
@@ -7,6 +7,7 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
@@ -18,7 +19,7 @@ import lombok.NoArgsConstructor;
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Entity
-@Table(name = "order_menus")
+@Table(name = "order_menus", indexes = @Index(name = "idx_order_menus_order", columnList = "order_id"))
 public class OrderMenu {
 
     @Id
@@ -35,18 +36,37 @@ public class OrderMenu {
     private Order order;
 
     // MySQL 예약어 충돌 방지
+    // 표시용 옵션명 스냅샷
     @Column(name = "menu_option", length = 1000)
     private String option;
 
+    // 선택한 옵션 선택지 id (쉼표 구분, 구 형식 주문이면 null)
+    @Column(name = "option_choice_ids", length = 500)
+    private String optionChoiceIds;
+
     @Column(name = "count", nullable = false)
     private int count;
 
+    /**
+     * 주문 시점 가격 스냅샷 (메뉴가 수정/삭제돼도 주문 금액은 그대로)
+     * - 기존 데이터는 null일 수 있음
+     */
+    @Column(name = "unit_price")
+    private Integer unitPrice;
+
+    @Column(name = "option_price")
+    private Integer optionPrice;
+
     @Builder
-    private OrderMenu(Menu menu, Order order, String option, int count) {
+    private OrderMenu(Menu menu, Order order, String option, String optionChoiceIds, int count,
+                      Integer unitPrice, Integer optionPrice) {
         this.menu = menu;
         this.order = order;
         this.option = option;
+        this.optionChoiceIds = optionChoiceIds;
         this.count = count;
+        this.unitPrice = unitPrice;
+        this.optionPrice = optionPrice;
     }
 
     public void setOrder(Order order) {
@@ -1,12 +1,37 @@
 package com.maejang.order.domain;
 
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
 public enum OrderStatus {
     ORDERED,       // 주문완료
     COOKING,       // 조리중
     DELIVERING,    // 배달중
     DELIVERED,     // 배달완료
     REJECTED,      // 거절됨
-    CANCELLED      // 취소됨
-}
+    CANCELLED;     // 취소됨
+
+    /**
+     * 아직 끝나지 않은(사장/고객이 계속 봐야 하는) 주문 상태
+     */
+    public static final List<OrderStatus> ACTIVE = List.of(ORDERED, COOKING, DELIVERING);
 
+    /**
+     * 상태 전이표 (현재 상태 -> 허용되는 다음 상태)
+     * - 고객 취소는 사장이 수락하기 전(ORDERED)까지만 가능
+     */
+    private static final Map<OrderStatus, Set<OrderStatus>> TRANSITIONS = new EnumMap<>(OrderStatus.class);
 
+    static {
+        TRANSITIONS.put(ORDERED, EnumSet.of(COOKING, REJECTED, CANCELLED));
+        TRANSITIONS.put(COOKING, EnumSet.of(DELIVERING));
+        TRANSITIONS.put(DELIVERING, EnumSet.of(DELIVERED));
+    }
+
+    public boolean canTransitionTo(OrderStatus next) {
+        return TRANSITIONS.getOrDefault(this, Set.of()).contains(next);
+    }
+}
@@ -18,7 +18,8 @@ public record OrderCreateRequest(
     public record OrderItemRequest(
             @NotNull(message = "menuId는 필수입니다.")
             Long menuId,
-            String option,
+            String option, // 구 형식 옵션명 (choiceIds가 없을 때만 사용)
+            List<Long> choiceIds,
             @NotNull(message = "count는 필수입니다.")
             Integer count
     ) {}
@@ -0,0 +1,34 @@
+package com.maejang.order.dto.request;
+
+import com.maejang.global.exception.CustomException;
+import com.maejang.global.exception.ErrorCode;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * 주문 목록 keyset 페이지네이션 커서
+ * - 마지막으로 내려준 주문의 (orderAt, orderId)
+ * - 클라이언트에는 불투명한 문자열(base64url)로 전달
+ */
+public record OrderCursor(
+        LocalDateTime orderAt,
+        Long orderId
+) {
+    private static final String SEPARATOR = "_";
+
+    public String encode() {
+        String raw = orderAt + SEPARATOR + orderId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static OrderCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int idx = raw.lastIndexOf(SEPARATOR);
+            return new OrderCursor(LocalDateTime.parse(raw.substring(0, idx)), Long.valueOf(raw.substring(idx + 1)));
+        } catch (RuntimeException e) {
+            throw new CustomException(ErrorCode.INVALID_CURSOR);
+        }
+    }
+}
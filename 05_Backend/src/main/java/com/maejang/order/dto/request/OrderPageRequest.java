@@ -0,0 +1,19 @@
+package com.maejang.order.dto.request;
+
+import com.maejang.order.domain.OrderStatus;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 주문 목록 페이지 조회 조건
+ * - status / from / to 모두 생략하면 "진행중 주문 + 오늘 주문"
+ * - from / to 를 지정하면 해당 기간(to 포함)의 주문만
+ */
+public record OrderPageRequest(
+        String cursor,
+        Integer size,
+        List<OrderStatus> status,
+        LocalDate from,
+        LocalDate to
+) {
+}
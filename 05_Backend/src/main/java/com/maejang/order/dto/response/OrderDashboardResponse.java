@@ -0,0 +1,20 @@
+package com.maejang.order.dto.response;
+
+import com.maejang.order.domain.OrderStatus;
+import java.time.LocalDate;
+import java.util.Map;
+
+/**
+ * 사장 대시보드 (오늘 들어온 주문 기준)
+ * - 평균 시간은 초 단위, 해당 단계를 거친 주문이 없으면 null
+ */
+public record OrderDashboardResponse(
+        LocalDate date,
+        int orderCount,
+        long revenue, // 거절/취소 제외
+        Map<OrderStatus, Integer> statusCounts,
+        Long avgAcceptSeconds, // 주문 -> 수락
+        Long avgCookSeconds, // 수락 -> 배달시작
+        Long avgDeliverSeconds // 배달시작 -> 배달완료
+) {
+}
@@ -0,0 +1,15 @@
+package com.maejang.order.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+public record OrderItemResponse(
+        @JsonIgnore Long orderId, // 주문별 그룹핑용
+        Long orderMenuId,
+        Long menuId,
+        String menuName,
+        Integer unitPrice, // 주문 시점 메뉴 단가
+        Integer optionPrice, // 주문 시점 옵션 추가금액
+        String option,
+        int count
+) {
+}
@@ -0,0 +1,9 @@
+package com.maejang.order.dto.response;
+
+import java.util.List;
+
+public record OrderPageResponse<T>(
+        List<T> orders,
+        String nextCursor // 다음 페이지가 없으면 null
+) {
+}
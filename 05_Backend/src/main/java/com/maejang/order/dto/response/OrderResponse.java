@@ -0,0 +1,35 @@
+package com.maejang.order.dto.response;
+
+import com.maejang.order.domain.OrderStatus;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 주문 조회 응답 (사장/고객 화면 공용)
+ * - JPQL constructor projection으로 필요한 컬럼만 조회 (엔티티 직렬화 X)
+ * - items는 주문 목록 단위로 한 번에 조회해서 채움
+ */
+public record OrderResponse(
+        Long orderId,
+        Long storeId,
+        String storeName,
+        Long userId,
+        String userName,
+        String userEmail,
+        int price,
+        int deliveryFee,
+        String request,
+        OrderStatus condition,
+        LocalDateTime orderAt,
+        List<OrderItemResponse> items
+) {
+    // JPQL "SELECT new ..." 용 (items 제외)
+    public OrderResponse(Long orderId, Long storeId, String storeName, Long userId, String userName, String userEmail,
+                         int price, int deliveryFee, String request, OrderStatus condition, LocalDateTime orderAt) {
+        this(orderId, storeId, storeName, userId, userName, userEmail, price, deliveryFee, request, condition, orderAt, List.of());
+    }
+
+    public OrderResponse withItems(List<OrderItemResponse> items) {
+        return new OrderResponse(orderId, storeId, storeName, userId, userName, userEmail, price, deliveryFee, request, condition, orderAt, items);
+    }
+}
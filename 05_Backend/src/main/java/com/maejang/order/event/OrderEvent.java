@@ -0,0 +1,22 @@
+package com.maejang.order.event;
+
+import com.maejang.order.domain.OrderStatus;
+import java.time.LocalDateTime;
+
+/**
+ * 주문 상태 변경 이벤트
+ * - OrderService의 생성/상태전이 메서드에서 발행
+ * - 커밋 이후(AFTER_COMMIT)에만 구독자에게 전달됨
+ */
+public record OrderEvent(
+        Long orderId,
+        Long storeId,
+        Long userId,
+        OrderStatus previousStatus, // 생성 이벤트면 null
+        OrderStatus status,
+        int price,
+        LocalDateTime orderAt,
+        LocalDateTime stageStartedAt, // 직전 단계가 시작된 시각 (주문/수락/배달시작, 생성 이벤트면 null)
+        LocalDateTime occurredAt
+) {
+}
@@ -0,0 +1,38 @@
+package com.maejang.order.repository;
+
+import com.maejang.order.domain.OrderMenu;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * order_menus 일괄 INSERT 전용 저장소
+ * - OrderMenu는 IDENTITY 전략이라 Hibernate가 INSERT를 배치로 묶지 못함
+ * - 같은 트랜잭션(커넥션) 안에서 JDBC batch로 한 번에 전송 (rewriteBatchedStatements=true면 multi-row INSERT 1회)
+ */
+@RequiredArgsConstructor
+@Repository
+public class OrderMenuBatchRepository {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO order_menus (order_id, menu_id, menu_option, option_choice_ids, count, unit_price, option_price) "
+                    + "VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void insertAll(Long orderId, List<OrderMenu> orderMenus) {
+        if (orderMenus.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, orderMenus, orderMenus.size(), (ps, om) -> {
+            ps.setLong(1, orderId);
+            ps.setLong(2, om.getMenu().getMenuId());
+            ps.setString(3, om.getOption());
+            ps.setString(4, om.getOptionChoiceIds());
+            ps.setInt(5, om.getCount());
+            ps.setInt(6, om.getUnitPrice());
+            ps.setInt(7, om.getOptionPrice());
+        });
+    }
+}
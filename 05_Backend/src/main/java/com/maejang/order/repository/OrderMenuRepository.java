@@ -1,11 +1,28 @@
 package com.maejang.order.repository;
 
 import com.maejang.order.domain.OrderMenu;
+import com.maejang.order.dto.response.OrderItemResponse;
+import java.util.Collection;
 import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface OrderMenuRepository extends JpaRepository<OrderMenu, Long> {
-    List<OrderMenu> findByOrderId(Long orderId);
-}
-
 
+    /**
+     * 여러 주문의 품목을 한 번에 조회 (주문 수와 무관하게 쿼리 1회)
+     * - 주문별 findByOrderId 반복(N+1) 대신 이 메서드를 사용
+     * - 삭제(soft delete)된 메뉴도 품목은 남아야 하므로 LEFT JOIN
+     * - 가격은 주문 시점 스냅샷 사용 (스냅샷 도입 전 데이터만 현재 메뉴 가격으로 대체)
+     */
+    @Query("""
+            SELECT new com.maejang.order.dto.response.OrderItemResponse(
+                om.order.id, om.id, om.menu.menuId, m.menuName,
+                COALESCE(om.unitPrice, m.price), COALESCE(om.optionPrice, 0), om.option, om.count)
+            FROM OrderMenu om LEFT JOIN om.menu m
+            WHERE om.order.id IN :orderIds
+            ORDER BY om.id
+            """)
+    List<OrderItemResponse> findItemsByOrderIds(@Param("orderIds") Collection<Long> orderIds);
+}
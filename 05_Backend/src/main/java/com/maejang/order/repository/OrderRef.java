@@ -0,0 +1,19 @@
+package com.maejang.order.repository;
+
+import com.maejang.order.domain.OrderStatus;
+import java.time.LocalDateTime;
+
+/**
+ * 상태 전이 후 이벤트 발행/오류 판별에 필요한 최소 컬럼 projection
+ */
+public record OrderRef(
+        Long orderId,
+        Long storeId,
+        Long userId,
+        OrderStatus condition,
+        int price,
+        LocalDateTime orderAt,
+        LocalDateTime acceptedAt,
+        LocalDateTime departedAt
+) {
+}
@@ -1,22 +1,143 @@
 package com.maejang.order.repository;
 
 import com.maejang.order.domain.Order;
+import com.maejang.order.domain.OrderStatus;
+import com.maejang.order.dto.response.OrderResponse;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 public interface OrderRepository extends JpaRepository<Order, Long> {
-    
-    @Query("SELECT o FROM Order o JOIN FETCH o.user JOIN FETCH o.store WHERE o.user.id = :userId")
-    List<Order> findByUserId(@Param("userId") Long userId);
 
-    @Query("SELECT o FROM Order o JOIN FETCH o.user JOIN FETCH o.store WHERE o.id = :orderId")
-    Optional<Order> findById(@Param("orderId") Long orderId);
+    String ORDER_RESPONSE = """
+            SELECT new com.maejang.order.dto.response.OrderResponse(
+                o.id, s.id, s.storeName, u.id, u.name, u.email, o.price, o.deliveryFee, o.request, o.condition, o.orderAt)
+            FROM Order o JOIN o.store s JOIN o.user u
+            """;
 
-    @Query("SELECT o FROM Order o JOIN FETCH o.user JOIN FETCH o.store WHERE o.store.id = :storeId")
-    List<Order> findByStoreId(@Param("storeId") Long storeId);
-}
+    @Query("""
+            SELECT new com.maejang.order.repository.OrderRef(
+                o.id, o.store.id, o.user.id, o.condition, o.price, o.orderAt, o.acceptedAt, o.departedAt)
+            FROM Order o WHERE o.id = :orderId
+            """)
+    Optional<OrderRef> findRefById(@Param("orderId") Long orderId);
+
+    /**
+     * 조건부 상태 전이: 현재 상태가 from 중 하나일 때만 변경 (동시 요청 시 하나만 성공)
+     * - 권한/전이 가능 여부는 호출 전에 findRefById로 확인
+     * - 수락(COOKING)/배달시작(DELIVERING)/배달완료(DELIVERED) 시각을 같은 UPDATE에서 기록
+     * @return 변경된 행 수 (0이면 주문이 없거나 이미 다른 상태)
+     */
+    @Modifying
+    @Query("""
+            UPDATE Order o SET o.condition = :to,
+                o.acceptedAt = CASE WHEN :to = com.maejang.order.domain.OrderStatus.COOKING THEN :now ELSE o.acceptedAt END,
+                o.departedAt = CASE WHEN :to = com.maejang.order.domain.OrderStatus.DELIVERING THEN :now ELSE o.departedAt END,
+                o.deliveredAt = CASE WHEN :to = com.maejang.order.domain.OrderStatus.DELIVERED THEN :now ELSE o.deliveredAt END
+            WHERE o.id = :orderId AND o.condition IN :from
+            """)
+    int updateCondition(@Param("orderId") Long orderId,
+                        @Param("from") Collection<OrderStatus> from,
+                        @Param("to") OrderStatus to,
+                        @Param("now") LocalDateTime now);
+
+    /**
+     * 대시보드 재구성용: from 이후 들어온 주문 전체 (order_at 인덱스 범위 스캔)
+     */
+    @Query("""
+            SELECT new com.maejang.order.repository.OrderStatRow(
+                o.id, o.store.id, o.condition, o.price, o.orderAt, o.acceptedAt, o.departedAt, o.deliveredAt)
+            FROM Order o WHERE o.orderAt >= :from
+            """)
+    List<OrderStatRow> findStatRowsSince(@Param("from") LocalDateTime from);
+
+    @Query(ORDER_RESPONSE + "WHERE o.id = :orderId")
+    Optional<OrderResponse> findResponseById(@Param("orderId") Long orderId);
+
+    @Query(ORDER_RESPONSE + "WHERE u.id = :userId ORDER BY o.orderAt DESC, o.id DESC")
+    List<OrderResponse> findResponsesByUserId(@Param("userId") Long userId);
 
+    @Query(ORDER_RESPONSE + "WHERE s.id = :storeId ORDER BY o.orderAt DESC, o.id DESC")
+    List<OrderResponse> findResponsesByStoreId(@Param("storeId") Long storeId);
 
+    /**
+     * 가게 주문 keyset 페이지 (orderAt DESC, id DESC): [from, to) 구간
+     * - (store_id, order_at) 인덱스 범위 스캔
+     * - 첫 페이지는 cursorAt=to, cursorId=Long.MAX_VALUE로 호출
+     */
+    @Query(ORDER_RESPONSE + """
+            WHERE s.id = :storeId
+              AND o.condition IN :statuses
+              AND o.orderAt >= :from
+              AND o.orderAt < :to
+              AND (o.orderAt < :cursorAt OR (o.orderAt = :cursorAt AND o.id < :cursorId))
+            ORDER BY o.orderAt DESC, o.id DESC
+            """)
+    List<OrderResponse> findStorePage(@Param("storeId") Long storeId,
+                                      @Param("statuses") Collection<OrderStatus> statuses,
+                                      @Param("from") LocalDateTime from,
+                                      @Param("to") LocalDateTime to,
+                                      @Param("cursorAt") LocalDateTime cursorAt,
+                                      @Param("cursorId") Long cursorId,
+                                      Limit limit);
+
+    /**
+     * before 이전에 들어온 가게 주문 중 statuses(진행중 상태) keyset 페이지 ("진행중 + 오늘"의 진행중 부분)
+     * - (store_id, order_status, order_at) 인덱스로 상태별 범위 스캔 (과거 완료 주문은 읽지 않음)
+     */
+    @Query(ORDER_RESPONSE + """
+            WHERE s.id = :storeId
+              AND o.condition IN :statuses
+              AND o.orderAt < :before
+              AND (o.orderAt < :cursorAt OR (o.orderAt = :cursorAt AND o.id < :cursorId))
+            ORDER BY o.orderAt DESC, o.id DESC
+            """)
+    List<OrderResponse> findStoreActivePage(@Param("storeId") Long storeId,
+                                            @Param("statuses") Collection<OrderStatus> statuses,
+                                            @Param("before") LocalDateTime before,
+                                            @Param("cursorAt") LocalDateTime cursorAt,
+                                            @Param("cursorId") Long cursorId,
+                                            Limit limit);
+
+    /**
+     * 고객 주문 keyset 페이지 (조건은 findStorePage와 동일)
+     */
+    @Query(ORDER_RESPONSE + """
+            WHERE u.id = :userId
+              AND o.condition IN :statuses
+              AND o.orderAt >= :from
+              AND o.orderAt < :to
+              AND (o.orderAt < :cursorAt OR (o.orderAt = :cursorAt AND o.id < :cursorId))
+            ORDER BY o.orderAt DESC, o.id DESC
+            """)
+    List<OrderResponse> findUserPage(@Param("userId") Long userId,
+                                     @Param("statuses") Collection<OrderStatus> statuses,
+                                     @Param("from") LocalDateTime from,
+                                     @Param("to") LocalDateTime to,
+                                     @Param("cursorAt") LocalDateTime cursorAt,
+                                     @Param("cursorId") Long cursorId,
+                                     Limit limit);
+
+    /**
+     * 고객 진행중 주문 keyset 페이지 (조건은 findStoreActivePage와 동일)
+     */
+    @Query(ORDER_RESPONSE + """
+            WHERE u.id = :userId
+              AND o.condition IN :statuses
+              AND o.orderAt < :before
+              AND (o.orderAt < :cursorAt OR (o.orderAt = :cursorAt AND o.id < :cursorId))
+            ORDER BY o.orderAt DESC, o.id DESC
+            """)
+    List<OrderResponse> findUserActivePage(@Param("userId") Long userId,
+                                           @Param("statuses") Collection<OrderStatus> statuses,
+                                           @Param("before") LocalDateTime before,
+                                           @Param("cursorAt") LocalDateTime cursorAt,
+                                           @Param("cursorId") Long cursorId,
+                                           Limit limit);
+}
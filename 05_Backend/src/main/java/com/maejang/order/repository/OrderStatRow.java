@@ -0,0 +1,19 @@
+package com.maejang.order.repository;
+
+import com.maejang.order.domain.OrderStatus;
+import java.time.LocalDateTime;
+
+/**
+ * 대시보드 집계 재구성용 projection
+ */
+public record OrderStatRow(
+        Long orderId,
+        Long storeId,
+        OrderStatus condition,
+        int price,
+        LocalDateTime orderAt,
+        LocalDateTime acceptedAt,
+        LocalDateTime departedAt,
+        LocalDateTime deliveredAt
+) {
+}
@@ -0,0 +1,228 @@
+package com.maejang.order.service;
+
+import com.maejang.order.domain.OrderStatus;
+import com.maejang.order.dto.response.OrderDashboardResponse;
+import com.maejang.order.event.OrderEvent;
+import com.maejang.order.repository.OrderRepository;
+import com.maejang.order.repository.OrderStatRow;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 가게별 오늘 주문 집계 (사장 대시보드)
+ * - 주문 생성/상태 전이 이벤트(커밋 이후)로 증분 갱신 -> 조회 시 주문 테이블을 읽지 않음
+ * - 시작 시 오늘 주문으로 한 번 재구성, 날짜가 바뀌면 가게별로 0부터 다시 집계
+ * - 주문별 현재 상태를 같이 들고 있어서 이벤트는 "직전 상태가 일치할 때만" 반영 (중복/지난 이벤트는 무시)
+ * - 재구성 중 들어온 이벤트는 모아뒀다가 새 집계에 다시 적용한 뒤 교체 (조회 시점 전후 어느 쪽이든 한 번만 반영)
+ */
+@RequiredArgsConstructor
+@Service
+public class OrderDashboardService {
+
+    private final OrderRepository orderRepository;
+
+    private final Object rebuildLock = new Object();
+    private volatile Map<Long, StoreStats> stores = new ConcurrentHashMap<>();
+    // 재구성 중일 때만 non-null (rebuildLock 안에서 접근)
+    private List<OrderEvent> eventsDuringRebuild;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        synchronized (rebuildLock) {
+            eventsDuringRebuild = new ArrayList<>();
+        }
+        LocalDate today = LocalDate.now();
+        Map<Long, StoreStats> rebuilt = new ConcurrentHashMap<>();
+        try {
+            for (OrderStatRow row : orderRepository.findStatRowsSince(today.atStartOfDay())) {
+                rebuilt.computeIfAbsent(row.storeId(), id -> new StoreStats(today)).add(row);
+            }
+        } catch (RuntimeException e) {
+            synchronized (rebuildLock) {
+                eventsDuringRebuild = null;
+            }
+            throw e;
+        }
+        synchronized (rebuildLock) {
+            // 조회 결과에 이미 반영된 이벤트는 직전 상태가 맞지 않아 무시됨
+            for (OrderEvent event : eventsDuringRebuild) {
+                apply(rebuilt, event);
+            }
+            eventsDuringRebuild = null;
+            stores = rebuilt;
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onOrderEvent(OrderEvent event) {
+        synchronized (rebuildLock) {
+            if (eventsDuringRebuild != null) {
+                eventsDuringRebuild.add(event);
+            }
+            apply(stores, event);
+        }
+    }
+
+    private static void apply(Map<Long, StoreStats> target, OrderEvent event) {
+        LocalDate today = LocalDate.now();
+        // 어제 이전에 들어온 주문의 상태 변경은 오늘 집계 대상이 아님
+        if (event.orderAt() == null || !event.orderAt().toLocalDate().equals(today)) {
+            return;
+        }
+        target.computeIfAbsent(event.storeId(), id -> new StoreStats(today)).apply(event, today);
+    }
+
+    public OrderDashboardResponse get(Long storeId) {
+        StoreStats stats = stores.get(storeId);
+        LocalDate today = LocalDate.now();
+        if (stats == null) {
+            return StoreStats.empty(today);
+        }
+        return stats.snapshot(today);
+    }
+
+    private static final class StoreStats {
+
+        private LocalDate date;
+        private int orderCount;
+        private long revenue;
+        private final int[] statusCounts = new int[OrderStatus.values().length];
+        private final StageAverage accept = new StageAverage();
+        private final StageAverage cook = new StageAverage();
+        private final StageAverage deliver = new StageAverage();
+        // 오늘 주문의 현재 상태 (이벤트 중복/순서 역전 판별)
+        private final Map<Long, OrderStatus> statusByOrder = new HashMap<>();
+        // 변경이 없으면 같은 응답 객체를 그대로 반환
+        private OrderDashboardResponse snapshot;
+
+        private StoreStats(LocalDate date) {
+            this.date = date;
+        }
+
+        synchronized void add(OrderStatRow row) {
+            statusByOrder.put(row.orderId(), row.condition());
+            orderCount++;
+            statusCounts[row.condition().ordinal()]++;
+            if (countsAsRevenue(row.condition())) {
+                revenue += row.price();
+            }
+            accept.add(row.orderAt(), row.acceptedAt());
+            cook.add(row.acceptedAt(), row.departedAt());
+            deliver.add(row.departedAt(), row.deliveredAt());
+            snapshot = null;
+        }
+
+        synchronized void apply(OrderEvent event, LocalDate today) {
+            resetIfStale(today);
+            OrderStatus current = statusByOrder.get(event.orderId());
+            // 생성 이벤트는 처음 보는 주문일 때만, 전이 이벤트는 알고 있는 현재 상태가 직전 상태와 같을 때만 반영
+            boolean applicable = event.previousStatus() == null
+                    ? current == null
+                    : event.previousStatus() == current;
+            if (!applicable) {
+                return;
+            }
+            statusByOrder.put(event.orderId(), event.status());
+
+            if (event.previousStatus() == null) {
+                orderCount++;
+                if (countsAsRevenue(event.status())) {
+                    revenue += event.price();
+                }
+            } else {
+                statusCounts[event.previousStatus().ordinal()]--;
+                if (countsAsRevenue(event.previousStatus()) && !countsAsRevenue(event.status())) {
+                    revenue -= event.price();
+                }
+            }
+            statusCounts[event.status().ordinal()]++;
+
+            switch (event.status()) {
+                case COOKING -> accept.add(event.stageStartedAt(), event.occurredAt());
+                case DELIVERING -> cook.add(event.stageStartedAt(), event.occurredAt());
+                case DELIVERED -> deliver.add(event.stageStartedAt(), event.occurredAt());
+                default -> {
+                }
+            }
+            snapshot = null;
+        }
+
+        synchronized OrderDashboardResponse snapshot(LocalDate today) {
+            if (!date.equals(today)) {
+                return empty(today);
+            }
+            if (snapshot == null) {
+                Map<OrderStatus, Integer> counts = new EnumMap<>(OrderStatus.class);
+                for (OrderStatus status : OrderStatus.values()) {
+                    counts.put(status, statusCounts[status.ordinal()]);
+                }
+                snapshot = new OrderDashboardResponse(date, orderCount, revenue, Collections.unmodifiableMap(counts),
+                        accept.averageSeconds(), cook.averageSeconds(), deliver.averageSeconds());
+            }
+            return snapshot;
+        }
+
+        private void resetIfStale(LocalDate today) {
+            if (date.equals(today)) {
+                return;
+            }
+            date = today;
+            orderCount = 0;
+            revenue = 0;
+            Arrays.fill(statusCounts, 0);
+            statusByOrder.clear();
+            accept.reset();
+            cook.reset();
+            deliver.reset();
+        }
+
+        static OrderDashboardResponse empty(LocalDate today) {
+            Map<OrderStatus, Integer> counts = new EnumMap<>(OrderStatus.class);
+            for (OrderStatus status : OrderStatus.values()) {
+                counts.put(status, 0);
+            }
+            return new OrderDashboardResponse(today, 0, 0, Collections.unmodifiableMap(counts), null, null, null);
+        }
+
+        private static boolean countsAsRevenue(OrderStatus status) {
+            return status != OrderStatus.REJECTED && status != OrderStatus.CANCELLED;
+        }
+    }
+
+    private static final class StageAverage {
+        private long totalSeconds;
+        private int count;
+
+        void add(LocalDateTime start, LocalDateTime end) {
+            if (start == null || end == null) {
+                return;
+            }
+            totalSeconds += Duration.between(start, end).getSeconds();
+            count++;
+        }
+
+        Long averageSeconds() {
+            return count == 0 ? null : totalSeconds / count;
+        }
+
+        void reset() {
+            totalSeconds = 0;
+            count = 0;
+        }
+    }
+}
@@ -0,0 +1,193 @@
+package com.maejang.order.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.maejang.global.exception.CustomException;
+import com.maejang.global.exception.ErrorCode;
+import com.maejang.order.domain.OrderIdempotencyKey;
+import com.maejang.order.dto.request.OrderCreateRequest;
+import com.maejang.order.repository.OrderIdempotencyKeyRepository;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 주문 생성 Idempotency-Key 처리
+ * - 같은 (사용자, 키)로 다시 요청하면 주문을 새로 만들지 않고 최초 주문 id를 돌려줌
+ * - 처리 중인 요청과 같은 키로 동시에 들어오면 그 결과를 기다렸다가 같은 id를 반환 (coalescing)
+ * - 키와 함께 요청 본문 해시를 저장 -> 같은 키를 다른 본문으로 재사용하면 422
+ * - 기본은 인스턴스 메모리(TTL + 최대 개수 제한), order.idempotency.persistent=true면 DB 테이블도 사용
+ */
+@Service
+public class OrderIdempotencyService {
+
+    private static final Duration TTL = Duration.ofHours(24);
+    private static final int MAX_ENTRIES = 10_000;
+    private static final int MAX_KEY_LENGTH = 255;
+
+    private final OrderIdempotencyKeyRepository keyRepository;
+    private final ObjectMapper objectMapper;
+    private final boolean persistent;
+
+    // 삽입 순서 유지 -> 가장 오래된 키부터 밀어냄
+    private final Map<String, Entry> entries = new LinkedHashMap<>(256, 0.75f, false) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+            return size() > MAX_ENTRIES;
+        }
+    };
+
+    public OrderIdempotencyService(OrderIdempotencyKeyRepository keyRepository, ObjectMapper objectMapper,
+                                   @Value("${order.idempotency.persistent:false}") boolean persistent) {
+        this.keyRepository = keyRepository;
+        this.objectMapper = objectMapper;
+        this.persistent = persistent;
+    }
+
+    /**
+     * @param key Idempotency-Key 헤더 값 (없으면 그냥 action 실행)
+     * @param req 주문 요청 본문 (같은 키의 이전 요청과 본문이 다르면 IDEMPOTENCY_KEY_REUSED)
+     * @param action 실제 주문 생성 (트랜잭션 커밋까지 끝난 뒤 반환되어야 함)
+     */
+    public Long execute(Long userId, String key, OrderCreateRequest req, Supplier<Long> action) {
+        if (key == null || key.isBlank()) {
+            return action.get();
+        }
+        if (key.length() > MAX_KEY_LENGTH) {
+            throw new CustomException(ErrorCode.INVALID_INPUT);
+        }
+
+        String entryKey = userId + ":" + key;
+        String requestHash = requestHash(req);
+        long now = System.currentTimeMillis();
+        CompletableFuture<Long> mine = new CompletableFuture<>();
+        CompletableFuture<Long> existing = null;
+        synchronized (entries) {
+            Entry entry = entries.get(entryKey);
+            if (entry != null && !entry.isExpired(now)) {
+                if (!entry.requestHash.equals(requestHash)) {
+                    throw new CustomException(ErrorCode.IDEMPOTENCY_KEY_REUSED);
+                }
+                existing = entry.result;
+            } else {
+                entries.put(entryKey, new Entry(mine, requestHash, now));
+            }
+        }
+        if (existing != null) {
+            return await(existing);
+        }
+
+        try {
+            Long orderId = persistent ? executePersistent(userId, key, requestHash, action) : action.get();
+            mine.complete(orderId);
+            return orderId;
+        } catch (RuntimeException e) {
+            // 실패한 요청은 기록하지 않음 -> 같은 키로 재시도 가능
+            synchronized (entries) {
+                entries.remove(entryKey);
+            }
+            mine.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    /**
+     * persistent 모드에서 주문 생성 트랜잭션 안에서 호출 (주문과 함께 커밋/롤백)
+     */
+    public void record(Long userId, String key, OrderCreateRequest req, Long orderId) {
+        if (!persistent || key == null || key.isBlank()) {
+            return;
+        }
+        keyRepository.save(OrderIdempotencyKey.builder()
+                .userId(userId)
+                .idempotencyKey(key)
+                .requestHash(requestHash(req))
+                .orderId(orderId)
+                .createdAt(LocalDateTime.now())
+                .build());
+    }
+
+    @Scheduled(fixedDelay = 60_000)
+    public void evictExpired() {
+        long now = System.currentTimeMillis();
+        synchronized (entries) {
+            entries.values().removeIf(e -> e.isExpired(now));
+        }
+    }
+
+    @Transactional
+    @Scheduled(fixedDelay = 60 * 60_000)
+    public void purgeExpiredKeys() {
+        if (persistent) {
+            keyRepository.deleteCreatedBefore(LocalDateTime.now().minus(TTL));
+        }
+    }
+
+    private Long executePersistent(Long userId, String key, String requestHash, Supplier<Long> action) {
+        Optional<OrderIdempotencyKey> stored = keyRepository.findByUserIdAndIdempotencyKey(userId, key);
+        if (stored.isPresent()) {
+            return orderIdOf(stored.get(), requestHash);
+        }
+        try {
+            return action.get();
+        } catch (DataIntegrityViolationException e) {
+            // 다른 인스턴스가 같은 키로 먼저 커밋함 -> 이 요청의 주문은 롤백되었으므로 먼저 만든 주문 id 반환
+            return keyRepository.findByUserIdAndIdempotencyKey(userId, key)
+                    .map(k -> orderIdOf(k, requestHash))
+                    .orElseThrow(() -> e);
+        }
+    }
+
+    /**
+     * 해시가 없는 행(컬럼 추가 전에 저장된 키)은 본문 비교 없이 통과
+     */
+    private static Long orderIdOf(OrderIdempotencyKey stored, String requestHash) {
+        if (stored.getRequestHash() != null && !Objects.equals(stored.getRequestHash(), requestHash)) {
+            throw new CustomException(ErrorCode.IDEMPOTENCY_KEY_REUSED);
+        }
+        return stored.getOrderId();
+    }
+
+    /**
+     * 요청 본문(가게, 주소, 요청사항, 품목) JSON의 SHA-256 (hex)
+     */
+    private String requestHash(OrderCreateRequest req) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(objectMapper.writeValueAsBytes(req));
+            return HexFormat.of().formatHex(hash);
+        } catch (JsonProcessingException | NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private Long await(CompletableFuture<Long> result) {
+        try {
+            return result.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private record Entry(CompletableFuture<Long> result, String requestHash, long createdAtMillis) {
+        boolean isExpired(long now) {
+            return now - createdAtMillis > TTL.toMillis();
+        }
+    }
+}
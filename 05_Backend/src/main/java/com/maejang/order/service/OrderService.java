@@ -4,43 +4,80 @@ import com.maejang.address.domain.Address;
 import com.maejang.address.repository.AddressRepository;
 import com.maejang.global.exception.CustomException;
 import com.maejang.global.exception.ErrorCode;
-import com.maejang.global.util.DistanceCalculator;
 import com.maejang.menu.domain.Menu;
 import com.maejang.menu.repository.MenuRepository;
+import com.maejang.menu.service.MenuOptionPricer;
 import com.maejang.order.domain.Order;
 import com.maejang.order.domain.OrderMenu;
 import com.maejang.order.domain.OrderStatus;
 import com.maejang.order.dto.request.OrderCreateRequest;
+import com.maejang.order.dto.request.OrderCursor;
+import com.maejang.order.dto.request.OrderPageRequest;
+import com.maejang.order.dto.response.OrderDashboardResponse;
+import com.maejang.order.dto.response.OrderItemResponse;
+import com.maejang.order.dto.response.OrderPageResponse;
+import com.maejang.order.dto.response.OrderResponse;
+import com.maejang.order.event.OrderEvent;
+import com.maejang.order.repository.OrderMenuBatchRepository;
 import com.maejang.order.repository.OrderMenuRepository;
+import com.maejang.order.repository.OrderRef;
 import com.maejang.order.repository.OrderRepository;
 import com.maejang.store.domain.Store;
 import com.maejang.store.repository.StoreRepository;
+import com.maejang.store.service.DeliveryEligibilityCache;
+import com.maejang.store.service.DeliveryQuote;
+import com.maejang.store.service.StoreOpenScheduler;
+import com.maejang.store.service.StoreOwnerCache;
 import com.maejang.user.domain.User;
+import com.maejang.user.domain.UserRole;
 import com.maejang.user.repository.UserRepository;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @RequiredArgsConstructor
 @Service
 public class OrderService {
 
+    private static final int ITEM_QUERY_CHUNK_SIZE = 1000;
+
     private final OrderRepository orderRepository;
     private final OrderMenuRepository orderMenuRepository;
+    private final OrderMenuBatchRepository orderMenuBatchRepository;
     private final UserRepository userRepository;
     private final MenuRepository menuRepository;
     private final StoreRepository storeRepository;
     private final AddressRepository addressRepository;
+    private final StoreOwnerCache storeOwnerCache;
+    private final DeliveryEligibilityCache deliveryEligibilityCache;
+    private final StoreOpenScheduler storeOpenScheduler;
+    private final MenuOptionPricer menuOptionPricer;
+    private final OrderStreamService orderStreamService;
+    private final OrderDashboardService orderDashboardService;
+    private final OrderIdempotencyService orderIdempotencyService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
-    public Long create(Long userId, OrderCreateRequest req) {
+    public Long create(Long userId, OrderCreateRequest req, String idempotencyKey) {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
 
         Store store = storeRepository.findById(req.storeId())
                 .orElseThrow(() -> new CustomException(ErrorCode.STORE_NOT_FOUND));
+        if (!storeOpenScheduler.isOpen(store)) {
+            throw new CustomException(ErrorCode.STORE_CLOSED);
+        }
 
         // 배달 주소 조회
         Address address = addressRepository.findById(req.addressId())
@@ -51,103 +88,321 @@ public class OrderService {
             throw new CustomException(ErrorCode.FORBIDDEN);
         }
 
-        // 배달 권역 체크
-        if (store.getLatitude() != null && store.getLongitude() != null 
-                && store.getDeliveryRadius() != null 
-                && address.getLatitude() != null && address.getLongitude() != null) {
-            
-            boolean isWithinRange = DistanceCalculator.isWithinDeliveryRange(
-                    store.getLatitude(), store.getLongitude(),
-                    address.getLatitude(), address.getLongitude(),
-                    store.getDeliveryRadius()
-            );
+        // 배달 권역 체크 (주소-가게-권역버전 캐시, 주소 등록/권역 변경 시 미리 계산됨)
+        // 다각형 구역이면 구역의 배달비/최소주문금액도 함께 결정됨
+        DeliveryQuote delivery = deliveryEligibilityCache.quote(address, store);
+        if (!delivery.deliverable()) {
+            throw new CustomException(ErrorCode.OUT_OF_DELIVERY_RANGE);
+        }
+
+        // 메뉴 일괄 조회 (품목 수와 무관하게 1회)
+        Map<Long, Menu> menus = loadMenus(store, req.items());
 
-            if (!isWithinRange) {
-                throw new CustomException(ErrorCode.OUT_OF_DELIVERY_RANGE);
-            }
+        int total = 0;
+        List<OrderMenu> orderMenus = new ArrayList<>(req.items().size());
+        for (OrderCreateRequest.OrderItemRequest item : req.items()) {
+            Menu menu = menus.get(item.menuId());
+
+            int count = item.count() == null ? 0 : item.count();
+            MenuOptionPricer.SelectedOptions options = menuOptionPricer.select(menu, item.choiceIds(), item.option());
+            total += (menu.getPrice() + options.price()) * count;
+
+            orderMenus.add(OrderMenu.builder()
+                    .menu(menu)
+                    .option(options.label())
+                    .optionChoiceIds(options.choiceIds())
+                    .count(count)
+                    .unitPrice(menu.getPrice())
+                    .optionPrice(options.price())
+                    .build());
+        }
+
+        if (total < delivery.minOrderPrice()) {
+            throw new CustomException(ErrorCode.BELOW_MIN_ORDER_PRICE);
         }
 
-        Order order = Order.builder()
+        // 합계를 먼저 계산해서 INSERT 1회로 저장 (별도 UPDATE 없음)
+        Order order = orderRepository.save(Order.builder()
                 .user(user)
                 .store(store)
-                .price(0)
+                .price(total)
+                .deliveryFee(delivery.deliveryFee())
                 .request(req.request())
                 .condition(OrderStatus.ORDERED)
                 .orderAt(LocalDateTime.now())
-                .build();
+                .build());
 
-        order = orderRepository.save(order);
+        orderMenuBatchRepository.insertAll(order.getId(), orderMenus);
+        orderIdempotencyService.record(userId, idempotencyKey, req, order.getId());
+        publishEvent(order);
+        return order.getId();
+    }
 
-        int total = 0;
-        for (OrderCreateRequest.OrderItemRequest item : req.items()) {
-            Menu menu = menuRepository.findById(item.menuId())
-                    .orElseThrow(() -> new CustomException(ErrorCode.NOT_FOUND));
+    /**
+     * 주문 품목의 메뉴를 한 번에 조회하고 검증
+     * - 요청한 menuId가 모두 존재해야 함
+     * - 모든 메뉴가 주문 대상 가게 사장의 메뉴여야 함
+     */
+    private Map<Long, Menu> loadMenus(Store store, List<OrderCreateRequest.OrderItemRequest> items) {
+        if (items.isEmpty()) {
+            throw new CustomException(ErrorCode.EMPTY_ORDER_ITEMS);
+        }
 
-            int count = item.count() == null ? 0 : item.count();
-            total += menu.getPrice() * count;
+        Set<Long> menuIds = new HashSet<>();
+        for (OrderCreateRequest.OrderItemRequest item : items) {
+            menuIds.add(item.menuId());
+        }
 
-            OrderMenu om = OrderMenu.builder()
-                    .menu(menu)
-                    .order(order)
-                    .option(item.option())
-                    .count(count)
-                    .build();
-            orderMenuRepository.save(om);
+        Map<Long, Menu> menus = new HashMap<>();
+        for (Menu menu : menuRepository.findAllById(menuIds)) {
+            menus.put(menu.getMenuId(), menu);
+        }
+        if (menus.size() != menuIds.size()) {
+            throw new CustomException(ErrorCode.MENU_NOT_FOUND);
         }
 
-        order.setPrice(total);
-        return order.getId();
+        // 프록시의 id 접근은 초기화(추가 쿼리)를 일으키지 않음
+        Long ownerId = store.getOwner().getId();
+        for (Menu menu : menus.values()) {
+            if (!menu.getOwner().getId().equals(ownerId)) {
+                throw new CustomException(ErrorCode.MENU_NOT_IN_STORE);
+            }
+        }
+        return menus;
     }
 
+    /**
+     * 고객 주문 1건 조회 (본인 주문만)
+     */
     @Transactional(readOnly = true)
-    public Order read(Long orderId) {
-        return orderRepository.findById(orderId)
+    public OrderResponse readByCustomer(Long userId, Long orderId) {
+        OrderResponse order = orderRepository.findResponseById(orderId)
                 .orElseThrow(() -> new CustomException(ErrorCode.ORDER_NOT_FOUND));
+        if (!order.userId().equals(userId)) {
+            throw new CustomException(ErrorCode.FORBIDDEN);
+        }
+        return attachItems(List.of(order)).get(0);
     }
 
     @Transactional(readOnly = true)
-    public List<Order> history(Long userId) {
-        return orderRepository.findByUserId(userId);
+    public List<OrderResponse> history(Long userId) {
+        return attachItems(orderRepository.findResponsesByUserId(userId));
     }
 
     @Transactional
     public void cancelByCustomer(Long userId, Long orderId) {
-        Order order = read(orderId);
-        if (!order.getUser().getId().equals(userId)) {
-            throw new CustomException(ErrorCode.FORBIDDEN);
-        }
-        order.setCondition(OrderStatus.CANCELLED);
+        transition(orderId, OrderStatus.CANCELLED, userId);
     }
 
     @Transactional
     public void acceptByOwner(Long orderId) {
-        Order order = read(orderId);
-        order.setCondition(OrderStatus.COOKING);
+        transition(orderId, OrderStatus.COOKING, null);
     }
 
     @Transactional
     public void rejectByOwner(Long orderId) {
-        Order order = read(orderId);
-        order.setCondition(OrderStatus.REJECTED);
+        transition(orderId, OrderStatus.REJECTED, null);
     }
 
     @Transactional
     public void completeByOwner(Long orderId) {
-        Order order = read(orderId);
-        order.setCondition(OrderStatus.DELIVERING);
+        transition(orderId, OrderStatus.DELIVERING, null);
     }
 
     @Transactional
     public void deliverByOwner(Long orderId) {
-        Order order = read(orderId);
-        order.setCondition(OrderStatus.DELIVERED);
+        transition(orderId, OrderStatus.DELIVERED, null);
+    }
+
+    /**
+     * 상태 전이: 현재 상태 projection 조회 1회 + 조건부 UPDATE 1회 (엔티티 로딩 없음)
+     * - 조회한 상태에서 전이표상 허용되는지 먼저 확인하고, UPDATE는 그 상태일 때만 변경
+     *   -> 수락/취소가 경합해도 하나만 성공하고, 이벤트의 이전 상태도 실제 직전 상태
+     * - 실패 시 덮어쓰지 않고 원인(없음/권한/상태 충돌)을 구분해서 알려줌
+     * @param customerId 고객 본인 주문만 허용할 때 지정 (사장 처리면 null)
+     */
+    private void transition(Long orderId, OrderStatus to, Long customerId) {
+        OrderRef ref = orderRepository.findRefById(orderId)
+                .orElseThrow(() -> new CustomException(ErrorCode.ORDER_NOT_FOUND));
+        if (customerId != null && !ref.userId().equals(customerId)) {
+            throw new CustomException(ErrorCode.FORBIDDEN);
+        }
+        OrderStatus previous = ref.condition();
+        if (!previous.canTransitionTo(to)) {
+            throw new CustomException(ErrorCode.ORDER_STATUS_CONFLICT);
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        // 조회 이후 다른 요청이 먼저 바꿨으면 0
+        if (orderRepository.updateCondition(orderId, Set.of(previous), to, now) == 0) {
+            throw new CustomException(ErrorCode.ORDER_STATUS_CONFLICT);
+        }
+
+        eventPublisher.publishEvent(new OrderEvent(ref.orderId(), ref.storeId(), ref.userId(), previous, to,
+                ref.price(), ref.orderAt(), stageStartedAt(ref, to), now));
+    }
+
+    private LocalDateTime stageStartedAt(OrderRef ref, OrderStatus to) {
+        return switch (to) {
+            case COOKING -> ref.orderAt();
+            case DELIVERING -> ref.acceptedAt();
+            case DELIVERED -> ref.departedAt();
+            default -> null;
+        };
     }
 
     @Transactional(readOnly = true)
-    public List<Order> checkByOwner(Long ownerId) {
-        Store store = storeRepository.findFirstByOwnerId(ownerId)
-                .orElseThrow(() -> new CustomException(ErrorCode.STORE_NOT_FOUND));
-        return orderRepository.findByStoreId(store.getId());
+    public List<OrderResponse> checkByOwner(Long ownerId) {
+        Long storeId = storeOwnerCache.storeIdOf(ownerId);
+        return attachItems(orderRepository.findResponsesByStoreId(storeId));
+    }
+
+    @Transactional(readOnly = true)
+    public OrderPageResponse<OrderResponse> historyPage(Long userId, OrderPageRequest req) {
+        PageWindow w = PageWindow.of(req);
+        List<OrderResponse> rows = orderRepository.findUserPage(userId, w.statuses(), w.from(), w.to(),
+                w.cursorAt(), w.cursorId(), Limit.of(w.size() + 1));
+        if (w.needsActive(rows)) {
+            rows = w.append(rows, orderRepository.findUserActivePage(userId, w.activeStatuses(), w.from(),
+                    w.cursorAt(), w.cursorId(), Limit.of(w.size() + 1 - rows.size())));
+        }
+        OrderPageResponse<OrderResponse> page = w.toPage(rows);
+        return new OrderPageResponse<>(attachItems(page.orders()), page.nextCursor());
+    }
+
+    @Transactional(readOnly = true)
+    public OrderPageResponse<OrderResponse> checkPageByOwner(Long ownerId, OrderPageRequest req) {
+        Long storeId = storeOwnerCache.storeIdOf(ownerId);
+        PageWindow w = PageWindow.of(req);
+        List<OrderResponse> rows = orderRepository.findStorePage(storeId, w.statuses(), w.from(), w.to(),
+                w.cursorAt(), w.cursorId(), Limit.of(w.size() + 1));
+        if (w.needsActive(rows)) {
+            rows = w.append(rows, orderRepository.findStoreActivePage(storeId, w.activeStatuses(), w.from(),
+                    w.cursorAt(), w.cursorId(), Limit.of(w.size() + 1 - rows.size())));
+        }
+        OrderPageResponse<OrderResponse> page = w.toPage(rows);
+        return new OrderPageResponse<>(attachItems(page.orders()), page.nextCursor());
+    }
+
+    /**
+     * 사장 대시보드: 이벤트로 유지되는 메모리 집계를 그대로 반환 (주문 테이블 조회 없음)
+     */
+    @Transactional(readOnly = true)
+    public OrderDashboardResponse dashboard(Long ownerId) {
+        Long storeId = storeOwnerCache.storeIdOf(ownerId);
+        return orderDashboardService.get(storeId);
+    }
+
+    /**
+     * 주문 실시간 구독
+     * - OWNER: 자기 가게로 들어오는 주문 이벤트
+     * - CUSTOMER: 자기 주문의 상태 변경 이벤트
+     */
+    @Transactional(readOnly = true)
+    public SseEmitter stream(Long userId, UserRole role, String lastEventId) {
+        if (role == UserRole.OWNER) {
+            return orderStreamService.subscribeStore(storeOwnerCache.storeIdOf(userId), lastEventId);
+        }
+        return orderStreamService.subscribeUser(userId, lastEventId);
+    }
+
+    /**
+     * 주문 목록의 품목을 IN 쿼리 1회로 조회해서 주문별로 붙임
+     */
+    private List<OrderResponse> attachItems(List<OrderResponse> orders) {
+        if (orders.isEmpty()) {
+            return orders;
+        }
+        List<Long> orderIds = orders.stream().map(OrderResponse::orderId).toList();
+        Map<Long, List<OrderItemResponse>> itemsByOrder = new HashMap<>();
+        // 페이지 조회(최대 100건)는 항상 1회, 전체 조회는 IN 절이 너무 길어지지 않도록 나눠서 조회
+        for (int i = 0; i < orderIds.size(); i += ITEM_QUERY_CHUNK_SIZE) {
+            List<Long> chunk = orderIds.subList(i, Math.min(i + ITEM_QUERY_CHUNK_SIZE, orderIds.size()));
+            for (OrderItemResponse item : orderMenuRepository.findItemsByOrderIds(chunk)) {
+                itemsByOrder.computeIfAbsent(item.orderId(), k -> new ArrayList<>()).add(item);
+            }
+        }
+        return orders.stream()
+                .map(o -> o.withItems(itemsByOrder.getOrDefault(o.orderId(), List.of())))
+                .toList();
+    }
+
+    /**
+     * 페이지 조회 조건을 쿼리 파라미터로 정규화
+     * - 기간 미지정: 오늘 0시 이후 + 그 이전의 진행중 주문 (includeActive, 인덱스 범위 조회 2번으로 나눠서 처리)
+     * - 기간 지정: [from 0시, to 다음날 0시)
+     * - size는 1~MAX_PAGE_SIZE, 다음 페이지 존재 여부는 size+1건 조회로 판단
+     */
+    private record PageWindow(List<OrderStatus> statuses, LocalDateTime from, LocalDateTime to, boolean includeActive,
+                              LocalDateTime cursorAt, Long cursorId, int size) {
+
+        private static final int DEFAULT_PAGE_SIZE = 20;
+        private static final int MAX_PAGE_SIZE = 100;
+        private static final LocalDate MIN_DATE = LocalDate.of(2000, 1, 1);
+
+        static PageWindow of(OrderPageRequest req) {
+            List<OrderStatus> statuses = (req.status() == null || req.status().isEmpty())
+                    ? List.of(OrderStatus.values())
+                    : req.status();
+
+            LocalDate today = LocalDate.now();
+            boolean defaultWindow = req.from() == null && req.to() == null;
+            LocalDateTime from = defaultWindow
+                    ? today.atStartOfDay()
+                    : (req.from() != null ? req.from() : MIN_DATE).atStartOfDay();
+            LocalDateTime to = (req.to() != null ? req.to() : today).plusDays(1).atStartOfDay();
+
+            int size = req.size() == null ? DEFAULT_PAGE_SIZE : Math.max(1, Math.min(req.size(), MAX_PAGE_SIZE));
+
+            if (req.cursor() == null || req.cursor().isBlank()) {
+                return new PageWindow(statuses, from, to, defaultWindow, to, Long.MAX_VALUE, size);
+            }
+            OrderCursor cursor = OrderCursor.decode(req.cursor());
+            return new PageWindow(statuses, from, to, defaultWindow, cursor.orderAt(), cursor.orderId(), size);
+        }
+
+        /**
+         * 기본 구간에서 [from, to) 결과만으로 페이지가 차지 않으면 from 이전 진행중 주문으로 이어서 채움
+         * - 두 조회는 orderAt 기준으로 겹치지 않고 [from, to) 쪽이 항상 앞이라 이어붙이면 정렬 유지
+         */
+        boolean needsActive(List<OrderResponse> rows) {
+            return includeActive && rows.size() <= size && !activeStatuses().isEmpty();
+        }
+
+        List<OrderStatus> activeStatuses() {
+            return statuses.stream().filter(OrderStatus.ACTIVE::contains).toList();
+        }
+
+        List<OrderResponse> append(List<OrderResponse> rows, List<OrderResponse> activeRows) {
+            List<OrderResponse> merged = new ArrayList<>(rows.size() + activeRows.size());
+            merged.addAll(rows);
+            merged.addAll(activeRows);
+            return merged;
+        }
+
+        OrderPageResponse<OrderResponse> toPage(List<OrderResponse> rows) {
+            if (rows.size() <= size) {
+                return new OrderPageResponse<>(rows, null);
+            }
+            List<OrderResponse> page = rows.subList(0, size);
+            OrderResponse last = page.get(size - 1);
+            return new OrderPageResponse<>(page, new OrderCursor(last.orderAt(), last.orderId()).encode());
+        }
+    }
+
+    // 커밋 이후 OrderStreamService(SSE) / OrderDashboardService(집계)가 처리
+    private void publishEvent(Order order) {
+        eventPublisher.publishEvent(new OrderEvent(
+                order.getId(),
+                order.getStore().getId(),
+                order.getUser().getId(),
+                null,
+                order.getCondition(),
+                order.getPrice(),
+                order.getOrderAt(),
+                null,
+                LocalDateTime.now()
+        ));
     }
 }
 
@@ -0,0 +1,236 @@
+package com.maejang.order.service;
+
+import com.maejang.order.event.OrderEvent;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * 주문 SSE(Server-Sent Events) 채널
+ * - 가게(사장)별 / 사용자(고객)별로 구독자를 나눠서 fan-out
+ * - 채널마다 최근 이벤트를 버퍼링해서 재연결 시 Last-Event-ID 이후 이벤트를 다시 보내줌
+ * - 버퍼로 메울 수 없는 공백이 있으면 resync 이벤트로 목록 재조회를 요청
+ * - 버퍼 적재 + 받을 구독자 목록 확정과 구독(재전송 + 등록)은 채널 lock 안에서 처리 (그 사이 이벤트 누락/중복 방지)
+ * - 실제 전송은 lock 밖 전용 스레드에서 채널별로 순서대로 -> 느린 클라이언트가 주문 생성/수락 요청 스레드를 붙잡지 않음
+ * - 구독자가 없고 CHANNEL_RETENTION_MS 동안 이벤트도 없는 채널은 정리 (이후 재연결은 resync)
+ */
+@Service
+public class OrderStreamService {
+
+    private static final long EMITTER_TIMEOUT_MS = 30 * 60 * 1000L;
+    private static final int BUFFER_SIZE = 100;
+    private static final long CHANNEL_RETENTION_MS = 10 * 60 * 1000L;
+    private static final String EVENT_ORDER = "order";
+    private static final String EVENT_RESYNC = "resync";
+    private static final int SENDER_THREADS = 4;
+
+    // 재시작 후에도 이전 인스턴스가 발급한 id보다 커지도록 시작 시각 기반으로 시작
+    private final AtomicLong sequence = new AtomicLong(System.currentTimeMillis() * 1000);
+    private final Map<String, Channel> channels = new ConcurrentHashMap<>();
+    private final AtomicInteger senderSeq = new AtomicInteger();
+    private final ExecutorService sender = Executors.newFixedThreadPool(SENDER_THREADS, r -> {
+        Thread t = new Thread(r, "order-stream-sender-" + senderSeq.incrementAndGet());
+        t.setDaemon(true);
+        return t;
+    });
+
+    public SseEmitter subscribeStore(Long storeId, String lastEventId) {
+        return subscribe(storeChannel(storeId), lastEventId);
+    }
+
+    public SseEmitter subscribeUser(Long userId, String lastEventId) {
+        return subscribe(userChannel(userId), lastEventId);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onOrderEvent(OrderEvent event) {
+        long id = sequence.incrementAndGet();
+        publish(storeChannel(event.storeId()), id, event);
+        publish(userChannel(event.userId()), id, event);
+    }
+
+    /**
+     * 프록시/로드밸런서의 idle timeout으로 연결이 끊기지 않도록 주석 라인 전송
+     */
+    @Scheduled(fixedRate = 25_000)
+    public void heartbeat() {
+        for (Channel channel : channels.values()) {
+            for (SseEmitter emitter : channel.emitters) {
+                try {
+                    emitter.send(SseEmitter.event().comment("ping"));
+                } catch (IOException | IllegalStateException e) {
+                    channel.remove(emitter);
+                }
+            }
+        }
+    }
+
+    /**
+     * 구독자도 없고 최근 이벤트도 없는 채널 정리 (한 번 구독한 사용자마다 채널이 계속 남지 않도록)
+     */
+    @Scheduled(fixedDelay = 60_000)
+    public void evictIdleChannels() {
+        long idleBefore = System.currentTimeMillis() - CHANNEL_RETENTION_MS;
+        for (String key : channels.keySet()) {
+            channels.computeIfPresent(key, (k, channel) -> {
+                synchronized (channel) {
+                    if (channel.emitters.isEmpty() && channel.lastActiveMillis < idleBefore) {
+                        channel.closed = true;
+                        return null;
+                    }
+                    return channel;
+                }
+            });
+        }
+    }
+
+    private SseEmitter subscribe(String key, String lastEventId) {
+        SseEmitter emitter = new SseEmitter(EMITTER_TIMEOUT_MS);
+        Long lastId = parseEventId(lastEventId);
+        while (true) {
+            Channel channel = channels.computeIfAbsent(key, k -> new Channel(sequence.get()));
+            synchronized (channel) {
+                // 정리와 겹친 경우 새 채널로 다시 시도
+                if (channel.closed) {
+                    continue;
+                }
+                emitter.onCompletion(() -> channel.remove(emitter));
+                emitter.onTimeout(() -> channel.remove(emitter));
+                emitter.onError(e -> channel.remove(emitter));
+                try {
+                    emitter.send(SseEmitter.event().comment("connected"));
+                    replay(channel, emitter, lastId);
+                } catch (IOException e) {
+                    emitter.completeWithError(e);
+                    return emitter;
+                }
+                channel.emitters.add(emitter);
+                return emitter;
+            }
+        }
+    }
+
+    // channel lock 안에서 호출
+    private void replay(Channel channel, SseEmitter emitter, Long lastEventId) throws IOException {
+        if (lastEventId == null) {
+            return;
+        }
+        if (lastEventId < channel.floorId) {
+            emitter.send(SseEmitter.event().name(EVENT_RESYNC).data(""));
+            return;
+        }
+        for (BufferedEvent e : channel.buffer) {
+            if (e.id > lastEventId) {
+                emitter.send(SseEmitter.event().id(String.valueOf(e.id)).name(EVENT_ORDER).data(e.event));
+            }
+        }
+    }
+
+    private void publish(String key, long id, OrderEvent event) {
+        // 한 번도 구독되지 않은 채널은 만들지 않음 (이후 구독 시 floorId 기준으로 resync 처리)
+        Channel channel = channels.get(key);
+        if (channel == null) {
+            return;
+        }
+        synchronized (channel) {
+            if (channel.buffer.size() == BUFFER_SIZE) {
+                channel.floorId = channel.buffer.removeFirst().id;
+            }
+            channel.buffer.addLast(new BufferedEvent(id, event));
+            channel.lastActiveMillis = System.currentTimeMillis();
+            // 지금 등록된 구독자에게만 전송 (이후 구독자는 replay로 받음)
+            channel.outbox.add(new Outgoing(id, event, List.copyOf(channel.emitters)));
+        }
+        if (channel.draining.compareAndSet(false, true)) {
+            sender.execute(() -> drain(channel));
+        }
+    }
+
+    /**
+     * 채널당 한 스레드만 outbox를 비움 (구독자마다 이벤트 id 순서 유지), 전송 실패한 구독자는 제거
+     */
+    private void drain(Channel channel) {
+        do {
+            Outgoing next;
+            while ((next = channel.outbox.poll()) != null) {
+                for (SseEmitter emitter : next.emitters()) {
+                    try {
+                        emitter.send(SseEmitter.event().id(String.valueOf(next.id())).name(EVENT_ORDER).data(next.event()));
+                    } catch (IOException | IllegalStateException e) {
+                        channel.remove(emitter);
+                    }
+                }
+            }
+            channel.draining.set(false);
+            // set(false)와 publish의 add 사이에 들어온 이벤트는 여기서 이어서 처리
+        } while (!channel.outbox.isEmpty() && channel.draining.compareAndSet(false, true));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        sender.shutdownNow();
+    }
+
+    private Long parseEventId(String lastEventId) {
+        if (lastEventId == null || lastEventId.isBlank()) return null;
+        try {
+            return Long.valueOf(lastEventId.trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static String storeChannel(Long storeId) {
+        return "store:" + storeId;
+    }
+
+    private static String userChannel(Long userId) {
+        return "user:" + userId;
+    }
+
+    private static final class Channel {
+        private final List<SseEmitter> emitters = new CopyOnWriteArrayList<>();
+        private final ArrayDeque<BufferedEvent> buffer = new ArrayDeque<>(BUFFER_SIZE);
+        // 전송 대기 이벤트 (lock 밖에서 sender 스레드가 전송)
+        private final Queue<Outgoing> outbox = new ConcurrentLinkedQueue<>();
+        private final AtomicBoolean draining = new AtomicBoolean();
+        // 이 id 이하의 이벤트는 버퍼에 없음 (이보다 오래된 Last-Event-ID는 재동기화 필요)
+        private long floorId;
+        // 마지막 이벤트/구독 해제 시각 (재연결 시 버퍼를 쓸 수 있도록 이 시각 기준으로 보관)
+        private volatile long lastActiveMillis = System.currentTimeMillis();
+        // map에서 제거됨 (이 채널에는 더 이상 구독을 등록하지 않음)
+        private boolean closed;
+
+        private Channel(long floorId) {
+            this.floorId = floorId;
+        }
+
+        private void remove(SseEmitter emitter) {
+            if (emitters.remove(emitter)) {
+                lastActiveMillis = System.currentTimeMillis();
+            }
+        }
+    }
+
+    private record BufferedEvent(long id, OrderEvent event) {
+    }
+
+    private record Outgoing(long id, OrderEvent event, List<SseEmitter> emitters) {
+    }
+}
@@ -2,13 +2,18 @@ package com.maejang.store.controller;
 
 import com.maejang.global.response.JSONResponse;
 import com.maejang.auth.security.CustomUserDetails;
+import com.maejang.store.domain.Store;
 import com.maejang.store.dto.request.DeliveryAreaUpdateRequest;
+import com.maejang.store.dto.request.DeliveryZonesUpdateRequest;
 import com.maejang.store.dto.request.StoreCreateRequest;
+import com.maejang.store.dto.response.DeliveryZoneResponse;
+import com.maejang.store.dto.response.NearbyStoreResponse;
 import com.maejang.store.dto.response.StoreIdResponse;
 import com.maejang.store.dto.response.StoreResponse;
 import com.maejang.store.service.StoreService;
 import io.swagger.v3.oas.annotations.Operation;
 import jakarta.validation.Valid;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -18,6 +23,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @RequiredArgsConstructor
@@ -40,7 +46,8 @@ public class StoreController {
     @Operation(summary = "가게 조회", description = "현재 로그인한 사장의 가게를 조회합니다.")
     @GetMapping("/read")
     public ResponseEntity<JSONResponse<StoreResponse>> read(@AuthenticationPrincipal CustomUserDetails principal) {
-        return ResponseEntity.ok(JSONResponse.success(StoreResponse.from(storeService.readByOwner(principal.getUserId()))));
+        Store store = storeService.readByOwner(principal.getUserId());
+        return ResponseEntity.ok(JSONResponse.success(StoreResponse.from(store, storeService.isOpen(store))));
     }
 
     @Operation(summary = "가게 오픈", description = "현재 로그인한 사장의 가게를 오픈 처리합니다.")
@@ -67,10 +74,37 @@ public class StoreController {
         return ResponseEntity.ok(JSONResponse.success(null));
     }
 
+    @Operation(summary = "배달 구역 조회", description = "가게의 다각형 배달 구역을 조회합니다.")
+    @GetMapping("/delivery-zones")
+    public ResponseEntity<JSONResponse<List<DeliveryZoneResponse>>> readDeliveryZones(@AuthenticationPrincipal CustomUserDetails principal) {
+        return ResponseEntity.ok(JSONResponse.success(storeService.readDeliveryZones(principal.getUserId())));
+    }
+
+    @Operation(summary = "배달 구역 설정", description = "가게의 다각형 배달 구역을 모두 교체합니다. 구역별로 배달비와 최소 주문금액을 둘 수 있고, 구역이 있으면 배달 반경 대신 구역으로 판정합니다.")
+    @PutMapping("/delivery-zones")
+    public ResponseEntity<JSONResponse<Void>> updateDeliveryZones(
+            @AuthenticationPrincipal CustomUserDetails principal,
+            @Valid @RequestBody DeliveryZonesUpdateRequest req
+    ) {
+        storeService.updateDeliveryZones(principal.getUserId(), req);
+        return ResponseEntity.ok(JSONResponse.success(null));
+    }
+
+    @Operation(summary = "배달 가능한 가게", description = "선택한 주소로 배달 가능한 가게를 가까운 순으로 조회합니다.")
+    @GetMapping("/nearby")
+    public ResponseEntity<JSONResponse<List<NearbyStoreResponse>>> nearby(
+            @AuthenticationPrincipal CustomUserDetails principal,
+            @RequestParam("addressId") Long addressId,
+            @RequestParam(value = "size", required = false) Integer size
+    ) {
+        return ResponseEntity.ok(JSONResponse.success(storeService.nearby(principal.getUserId(), addressId, size)));
+    }
+
     @Operation(summary = "가게 조회 (storeId)", description = "storeId로 가게 정보를 조회합니다.")
     @GetMapping("/{storeId}")
     public ResponseEntity<JSONResponse<StoreResponse>> readById(@PathVariable Long storeId) {
-        return ResponseEntity.ok(JSONResponse.success(StoreResponse.from(storeService.readById(storeId))));
+        Store store = storeService.readById(storeId);
+        return ResponseEntity.ok(JSONResponse.success(StoreResponse.from(store, storeService.isOpen(store))));
     }
 }
 
@@ -0,0 +1,58 @@
+package com.maejang.store.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 다각형 배달 구역
+ * - 구역이 하나라도 있으면 배달 반경(원) 대신 구역으로 배달 가능 여부를 판정
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(name = "delivery_zones", indexes = @Index(name = "idx_delivery_zones_store", columnList = "store_id"))
+public class DeliveryZone {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "delivery_zone_id")
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "store_id", nullable = false)
+    private Store store;
+
+    @Column(name = "name", nullable = false, length = 100)
+    private String name;
+
+    // [[위도, 경도], ...] JSON
+    @Column(name = "vertices", nullable = false, columnDefinition = "TEXT")
+    private String vertices;
+
+    @Column(name = "delivery_fee", nullable = false)
+    private int deliveryFee;
+
+    @Column(name = "min_order_price", nullable = false)
+    private int minOrderPrice;
+
+    @Builder
+    private DeliveryZone(Store store, String name, String vertices, int deliveryFee, int minOrderPrice) {
+        this.store = store;
+        this.name = name;
+        this.vertices = vertices;
+        this.deliveryFee = deliveryFee;
+        this.minOrderPrice = minOrderPrice;
+    }
+}
@@ -8,9 +8,11 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
+import java.time.LocalDateTime;
 import java.time.LocalTime;
 import lombok.Builder;
 import lombok.AccessLevel;
@@ -20,7 +22,7 @@ import lombok.NoArgsConstructor;
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Entity
-@Table(name = "stores")
+@Table(name = "stores", indexes = @Index(name = "idx_stores_owner", columnList = "user_id"))
 public class Store {
 
     @Id
@@ -57,6 +59,12 @@ public class Store {
     @Column(name = "is_open", nullable = false)
     private boolean open;
 
+    /**
+     * 사장이 마지막으로 수동 오픈/마감한 시각 (가게 시간대 기준, 영업시간 경계보다 이후면 수동 상태 유지)
+     */
+    @Column(name = "open_overridden_at")
+    private LocalDateTime openOverriddenAt;
+
     @Column(name = "latitude")
     private Double latitude;
 
@@ -66,6 +74,12 @@ public class Store {
     @Column(name = "delivery_radius")
     private Double deliveryRadius; // 배달 반경 (km)
 
+    /**
+     * 배달 권역이 바뀔 때마다 증가 (주소별 배달 가능 여부 캐시 무효화용)
+     */
+    @Column(name = "delivery_area_version", nullable = false)
+    private long deliveryAreaVersion;
+
     @Builder
     private Store(User owner, String storeName, String address, String description, String picture,
                   LocalTime openTime, LocalTime closeTime, boolean open, Double latitude, Double longitude, Double deliveryRadius) {
@@ -90,5 +104,13 @@ public class Store {
         this.latitude = latitude;
         this.longitude = longitude;
         this.deliveryRadius = deliveryRadius;
+        bumpDeliveryAreaVersion();
+    }
+
+    /**
+     * 배달 반경/다각형 구역이 바뀌면 호출
+     */
+    public void bumpDeliveryAreaVersion() {
+        this.deliveryAreaVersion++;
     }
 }
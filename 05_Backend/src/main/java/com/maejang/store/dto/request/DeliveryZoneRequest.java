@@ -0,0 +1,39 @@
+package com.maejang.store.dto.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+
+public record DeliveryZoneRequest(
+        @NotBlank(message = "구역 이름은 필수입니다.")
+        @Size(max = 100, message = "구역 이름은 100자 이하여야 합니다.")
+        String name,
+
+        // 순서대로 이어지는 꼭짓점 (마지막 점과 첫 점은 자동으로 이어짐)
+        @NotNull(message = "꼭짓점은 필수입니다.")
+        @Size(min = 3, max = 1000, message = "꼭짓점은 3개 이상 1000개 이하여야 합니다.")
+        List<@Valid @NotNull Vertex> vertices,
+
+        @Min(value = 0, message = "배달비는 0 이상이어야 합니다.")
+        int deliveryFee,
+
+        @Min(value = 0, message = "최소 주문금액은 0 이상이어야 합니다.")
+        int minOrderPrice
+) {
+    public record Vertex(
+            @NotNull(message = "위도는 필수입니다.")
+            @DecimalMin(value = "-90.0", message = "위도는 -90 이상이어야 합니다.")
+            @DecimalMax(value = "90.0", message = "위도는 90 이하여야 합니다.")
+            Double latitude,
+
+            @NotNull(message = "경도는 필수입니다.")
+            @DecimalMin(value = "-180.0", message = "경도는 -180 이상이어야 합니다.")
+            @DecimalMax(value = "180.0", message = "경도는 180 이하여야 합니다.")
+            Double longitude
+    ) {}
+}
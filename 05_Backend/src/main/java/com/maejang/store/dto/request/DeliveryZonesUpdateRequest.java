@@ -0,0 +1,16 @@
+package com.maejang.store.dto.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+
+/**
+ * 배달 구역 전체 교체 (빈 목록이면 구역을 지우고 배달 반경으로 판정)
+ */
+public record DeliveryZonesUpdateRequest(
+        @NotNull(message = "구역 목록은 필수입니다.")
+        @Size(max = 20, message = "배달 구역은 20개까지 설정할 수 있습니다.")
+        List<@Valid @NotNull DeliveryZoneRequest> zones
+) {
+}
@@ -0,0 +1,10 @@
+package com.maejang.store.dto.response;
+
+public record DeliverabilityResponse(
+        Long addressId,
+        Long storeId,
+        boolean deliverable,
+        int deliveryFee,
+        int minOrderPrice
+) {
+}
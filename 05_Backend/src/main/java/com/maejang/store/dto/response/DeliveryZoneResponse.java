@@ -0,0 +1,13 @@
+package com.maejang.store.dto.response;
+
+import com.maejang.store.dto.request.DeliveryZoneRequest.Vertex;
+import java.util.List;
+
+public record DeliveryZoneResponse(
+        Long zoneId,
+        String name,
+        List<Vertex> vertices,
+        int deliveryFee,
+        int minOrderPrice
+) {
+}
@@ -0,0 +1,30 @@
+package com.maejang.store.dto.response;
+
+import com.maejang.store.domain.Store;
+import com.maejang.store.service.DeliveryQuote;
+
+public record NearbyStoreResponse(
+        Long storeId,
+        String storeName,
+        String address,
+        String picture,
+        boolean isOpen,
+        Double deliveryRadius,
+        double distanceKm,
+        int deliveryFee,
+        int minOrderPrice
+) {
+    public static NearbyStoreResponse of(Store s, boolean open, double distanceKm, DeliveryQuote quote) {
+        return new NearbyStoreResponse(
+                s.getId(),
+                s.getStoreName(),
+                s.getAddress(),
+                s.getPicture(),
+                open,
+                s.getDeliveryRadius(),
+                distanceKm,
+                quote.deliveryFee(),
+                quote.minOrderPrice()
+        );
+    }
+}
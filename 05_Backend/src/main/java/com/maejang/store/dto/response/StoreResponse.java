@@ -17,7 +17,10 @@ public record StoreResponse(
         Double longitude,
         Double deliveryRadius
 ) {
-    public static StoreResponse from(Store s) {
+    /**
+     * @param open 영업 스케줄러 기준 현재 영업 여부
+     */
+    public static StoreResponse from(Store s, boolean open) {
         return new StoreResponse(
                 s.getId(),
                 s.getOwner().getId(),
@@ -27,7 +30,7 @@ public record StoreResponse(
                 s.getPicture(),
                 s.getOpenTime(),
                 s.getCloseTime(),
-                s.isOpen(),
+                open,
                 s.getLatitude(),
                 s.getLongitude(),
                 s.getDeliveryRadius()
@@ -0,0 +1,8 @@
+package com.maejang.store.event;
+
+/**
+ * 가게 생성/정보 변경 이벤트
+ * - StoreService에서 발행, 커밋 이후(AFTER_COMMIT) 가게 관련 캐시 갱신에 사용
+ */
+public record StoreChangedEvent(Long storeId, Long ownerId) {
+}
@@ -0,0 +1,8 @@
+package com.maejang.store.event;
+
+/**
+ * 사장의 수동 오픈/마감 이벤트
+ * - StoreService에서 발행, 커밋 이후(AFTER_COMMIT) 메모리 영업상태에 반영
+ */
+public record StoreOpenChangedEvent(Long storeId, boolean open) {
+}
@@ -0,0 +1,18 @@
+package com.maejang.store.repository;
+
+import com.maejang.store.domain.DeliveryZone;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface DeliveryZoneRepository extends JpaRepository<DeliveryZone, Long> {
+
+    @Query("SELECT z FROM DeliveryZone z WHERE z.store.id = :storeId ORDER BY z.id")
+    List<DeliveryZone> findByStoreId(@Param("storeId") Long storeId);
+
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM DeliveryZone z WHERE z.store.id = :storeId")
+    int deleteByStoreId(@Param("storeId") Long storeId);
+}
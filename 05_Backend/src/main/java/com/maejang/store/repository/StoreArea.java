@@ -0,0 +1,13 @@
+package com.maejang.store.repository;
+
+/**
+ * 배달 권역 조회용 projection (공간 색인 구성에 필요한 컬럼만)
+ */
+public record StoreArea(
+        Long storeId,
+        Double latitude,
+        Double longitude,
+        Double deliveryRadius,
+        long deliveryAreaVersion
+) {
+}
@@ -0,0 +1,16 @@
+package com.maejang.store.repository;
+
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+/**
+ * 영업시간/영업상태 projection (영업 스케줄러용)
+ */
+public record StoreHoursRow(
+        Long storeId,
+        LocalTime openTime,
+        LocalTime closeTime,
+        boolean open,
+        LocalDateTime openOverriddenAt
+) {
+}
@@ -1,14 +1,61 @@
 package com.maejang.store.repository;
 
 import com.maejang.store.domain.Store;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 public interface StoreRepository extends JpaRepository<Store, Long> {
     List<Store> findByOwnerId(Long ownerId);
     Optional<Store> findFirstByOwnerId(Long ownerId);
     boolean existsByOwnerId(Long ownerId);
+
+    @Query("SELECT s.id FROM Store s WHERE s.owner.id = :ownerId ORDER BY s.id")
+    List<Long> findStoreIdsByOwnerId(@Param("ownerId") Long ownerId, Limit limit);
+
+    /**
+     * 영업시간 경계에 따른 자동 오픈/마감 (엔티티 로딩 없이 UPDATE 1회)
+     * - 스케줄러는 트랜잭션 밖에서 호출 -> 상태가 바뀔 때만 이 UPDATE 하나로 트랜잭션을 엶
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE Store s SET s.open = :open WHERE s.id = :storeId")
+    int updateOpen(@Param("storeId") Long storeId, @Param("open") boolean open);
+
+    /**
+     * 사장의 수동 오픈/마감 (시각도 같이 저장 -> 재시작 후에도 다음 경계까지 유지)
+     */
+    @Modifying
+    @Query("UPDATE Store s SET s.open = :open, s.openOverriddenAt = :at WHERE s.id = :storeId")
+    int overrideOpen(@Param("storeId") Long storeId, @Param("open") boolean open, @Param("at") LocalDateTime at);
+
+    @Query("""
+            SELECT new com.maejang.store.repository.StoreArea(s.id, s.latitude, s.longitude, s.deliveryRadius, s.deliveryAreaVersion)
+            FROM Store s
+            """)
+    List<StoreArea> findDeliveryAreas();
+
+    @Query("""
+            SELECT new com.maejang.store.repository.StoreArea(s.id, s.latitude, s.longitude, s.deliveryRadius, s.deliveryAreaVersion)
+            FROM Store s
+            WHERE s.id = :storeId
+            """)
+    Optional<StoreArea> findDeliveryAreaById(@Param("storeId") Long storeId);
+
+    @Query("SELECT new com.maejang.store.repository.StoreHoursRow(s.id, s.openTime, s.closeTime, s.open, s.openOverriddenAt) FROM Store s")
+    List<StoreHoursRow> findHours();
+
+    @Query("SELECT new com.maejang.store.repository.StoreHoursRow(s.id, s.openTime, s.closeTime, s.open, s.openOverriddenAt) FROM Store s WHERE s.id = :storeId")
+    Optional<StoreHoursRow> findHoursById(@Param("storeId") Long storeId);
+
+    @Query("SELECT s.owner.id FROM Store s WHERE s.id = :storeId")
+    Optional<Long> findOwnerIdById(@Param("storeId") Long storeId);
 }
 
 
@@ -0,0 +1,114 @@
+package com.maejang.store.service;
+
+import com.maejang.address.domain.Address;
+import com.maejang.address.event.AddressChangedEvent;
+import com.maejang.store.domain.Store;
+import com.maejang.store.event.StoreChangedEvent;
+import com.maejang.store.repository.StoreArea;
+import com.maejang.store.repository.StoreRepository;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 배송지-가게 배달 조건 캐시 (배달 가능 여부 + 구역 배달비/최소주문금액)
+ * - 키: (addressId, storeId, 가게 배달 권역 버전) -> 권역이 바뀌면 버전이 달라져 이전 결과는 자동으로 무시됨
+ * - 주소 생성/수정 시 StoreSpatialIndex로 배달 가능한 가게를 미리 채우고,
+ *   가게 권역 변경 시 캐시에 있는 주소들에 대해 그 가게만 다시 계산
+ * - 미리 채워지지 않은 조합은 조회 시 계산해서 저장
+ */
+@RequiredArgsConstructor
+@Service
+public class DeliveryEligibilityCache {
+
+    private static final int MAX_ADDRESSES = 100_000;
+
+    private final StoreRepository storeRepository;
+    private final StoreSpatialIndex storeSpatialIndex;
+    private final DeliveryZoneRegistry deliveryZoneRegistry;
+
+    private final Map<Long, AddressEntry> addresses = new ConcurrentHashMap<>();
+
+    private record Verdict(long version, DeliveryQuote quote) {
+    }
+
+    private record AddressEntry(double latitude, double longitude, Map<Long, Verdict> verdicts) {
+        AddressEntry(double latitude, double longitude) {
+            this(latitude, longitude, new ConcurrentHashMap<>());
+        }
+
+        boolean at(double lat, double lon) {
+            return latitude == lat && longitude == lon;
+        }
+    }
+
+    public boolean isDeliverable(Address address, Store store) {
+        return quote(address, store).deliverable();
+    }
+
+    /**
+     * 배송지 좌표가 없으면 제한 없음 (기존 주문 검증과 동일)
+     */
+    public DeliveryQuote quote(Address address, Store store) {
+        if (address.getLatitude() == null || address.getLongitude() == null) {
+            return DeliveryQuote.FREE;
+        }
+
+        double lat = address.getLatitude();
+        double lon = address.getLongitude();
+        AddressEntry entry = addresses.get(address.getAddressId());
+        if (entry == null || !entry.at(lat, lon)) {
+            // 아직 커밋 이벤트가 오지 않았거나 처음 보는 주소
+            entry = new AddressEntry(lat, lon);
+            put(address.getAddressId(), entry);
+        }
+
+        Verdict verdict = entry.verdicts().get(store.getId());
+        if (verdict != null && verdict.version() == store.getDeliveryAreaVersion()) {
+            return verdict.quote();
+        }
+        DeliveryQuote quote = deliveryZoneRegistry.quote(store.getId(), store.getLatitude(), store.getLongitude(),
+                store.getDeliveryRadius(), lat, lon);
+        entry.verdicts().put(store.getId(), new Verdict(store.getDeliveryAreaVersion(), quote));
+        return quote;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onAddressChanged(AddressChangedEvent event) {
+        if (event.latitude() == null || event.longitude() == null) {
+            addresses.remove(event.addressId());
+            return;
+        }
+        AddressEntry entry = new AddressEntry(event.latitude(), event.longitude());
+        for (StoreSpatialIndex.Hit hit : storeSpatialIndex.deliverableTo(event.latitude(), event.longitude())) {
+            entry.verdicts().put(hit.storeId(), new Verdict(hit.deliveryAreaVersion(), hit.quote()));
+        }
+        put(event.addressId(), entry);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onStoreChanged(StoreChangedEvent event) {
+        Optional<StoreArea> found = storeRepository.findDeliveryAreaById(event.storeId());
+        if (found.isEmpty()) {
+            addresses.values().forEach(entry -> entry.verdicts().remove(event.storeId()));
+            return;
+        }
+        StoreArea area = found.get();
+        for (AddressEntry entry : addresses.values()) {
+            DeliveryQuote quote = deliveryZoneRegistry.quote(area.storeId(), area.latitude(), area.longitude(),
+                    area.deliveryRadius(), entry.latitude(), entry.longitude());
+            entry.verdicts().put(area.storeId(), new Verdict(area.deliveryAreaVersion(), quote));
+        }
+    }
+
+    private void put(Long addressId, AddressEntry entry) {
+        if (addresses.size() >= MAX_ADDRESSES && !addresses.containsKey(addressId)) {
+            addresses.clear();
+        }
+        addresses.put(addressId, entry);
+    }
+}
@@ -0,0 +1,11 @@
+package com.maejang.store.service;
+
+/**
+ * 배송지 기준 가게 배달 조건
+ * - 다각형 구역으로 판정된 경우 구역의 배달비/최소주문금액, 반경(원) 판정이면 0
+ */
+public record DeliveryQuote(boolean deliverable, int deliveryFee, int minOrderPrice) {
+
+    public static final DeliveryQuote FREE = new DeliveryQuote(true, 0, 0);
+    public static final DeliveryQuote NOT_DELIVERABLE = new DeliveryQuote(false, 0, 0);
+}
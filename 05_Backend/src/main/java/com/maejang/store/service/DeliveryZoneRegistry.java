@@ -0,0 +1,115 @@
+package com.maejang.store.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.maejang.global.util.DistanceCalculator;
+import com.maejang.global.util.GeoPolygon;
+import com.maejang.store.domain.DeliveryZone;
+import com.maejang.store.event.StoreChangedEvent;
+import com.maejang.store.repository.DeliveryZoneRepository;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 가게별 다각형 배달 구역 (메모리, 꼭짓점 JSON은 한 번만 파싱)
+ * - StoreSpatialIndex/DeliveryEligibilityCache가 같은 이벤트에서 이 값을 읽으므로 가장 먼저 갱신 (@Order)
+ */
+@RequiredArgsConstructor
+@Service
+public class DeliveryZoneRegistry {
+
+    private final DeliveryZoneRepository deliveryZoneRepository;
+    private final ObjectMapper objectMapper;
+
+    private final Map<Long, List<Zone>> zonesByStore = new ConcurrentHashMap<>();
+
+    public record Zone(Long zoneId, String name, GeoPolygon polygon, int deliveryFee, int minOrderPrice) {
+    }
+
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void build() {
+        Map<Long, List<Zone>> loaded = new HashMap<>();
+        for (DeliveryZone z : deliveryZoneRepository.findAll()) {
+            // 프록시의 id 접근은 초기화(추가 쿼리)를 일으키지 않음
+            loaded.computeIfAbsent(z.getStore().getId(), k -> new ArrayList<>()).add(compile(z));
+        }
+        zonesByStore.clear();
+        loaded.forEach((storeId, zones) -> zonesByStore.put(storeId, List.copyOf(zones)));
+    }
+
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onStoreChanged(StoreChangedEvent event) {
+        refresh(event.storeId());
+    }
+
+    public synchronized void refresh(Long storeId) {
+        List<Zone> zones = deliveryZoneRepository.findByStoreId(storeId).stream()
+                .map(this::compile)
+                .toList();
+        if (zones.isEmpty()) {
+            zonesByStore.remove(storeId);
+        } else {
+            zonesByStore.put(storeId, zones);
+        }
+    }
+
+    public List<Zone> zonesOf(Long storeId) {
+        return zonesByStore.getOrDefault(storeId, List.of());
+    }
+
+    /**
+     * 가게의 배달 조건
+     * - 다각형 구역이 있으면 지점을 포함하는 구역 중 배달비가 가장 싼 구역 기준
+     * - 없으면 배달 반경(원)으로 판정, 권역 자체가 없으면 제한 없음 (기존 주문 검증과 동일)
+     */
+    public DeliveryQuote quote(Long storeId, Double storeLat, Double storeLon, Double radiusKm, double lat, double lon) {
+        List<Zone> zones = zonesByStore.get(storeId);
+        if (zones != null) {
+            Zone best = null;
+            for (Zone zone : zones) {
+                if (zone.polygon().contains(lat, lon) && (best == null || zone.deliveryFee() < best.deliveryFee())) {
+                    best = zone;
+                }
+            }
+            return best == null ? DeliveryQuote.NOT_DELIVERABLE
+                    : new DeliveryQuote(true, best.deliveryFee(), best.minOrderPrice());
+        }
+        if (storeLat == null || storeLon == null || radiusKm == null) {
+            return DeliveryQuote.FREE;
+        }
+        return DistanceCalculator.isWithinDeliveryRange(storeLat, storeLon, lat, lon, radiusKm)
+                ? DeliveryQuote.FREE : DeliveryQuote.NOT_DELIVERABLE;
+    }
+
+    public double[][] parseVertices(String json) {
+        try {
+            return objectMapper.readValue(json, double[][].class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("배달 구역 꼭짓점 형식이 올바르지 않습니다.", e);
+        }
+    }
+
+    private Zone compile(DeliveryZone z) {
+        double[][] vertices = parseVertices(z.getVertices());
+        double[] lats = new double[vertices.length];
+        double[] lons = new double[vertices.length];
+        for (int i = 0; i < vertices.length; i++) {
+            lats[i] = vertices[i][0];
+            lons[i] = vertices[i][1];
+        }
+        return new Zone(z.getId(), z.getName(), new GeoPolygon(lats, lons), z.getDeliveryFee(), z.getMinOrderPrice());
+    }
+}
@@ -0,0 +1,171 @@
+package com.maejang.store.service;
+
+import com.maejang.store.domain.Store;
+import com.maejang.store.event.StoreChangedEvent;
+import com.maejang.store.event.StoreOpenChangedEvent;
+import com.maejang.store.repository.StoreHoursRow;
+import com.maejang.store.repository.StoreRepository;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 가게 영업상태 (메모리) + 영업시간 기준 자동 오픈/마감
+ * - 가게별 "다음 경계(오픈/마감 시각)"를 우선순위 큐에 넣고, 1초마다 도래한 경계만 처리
+ * - 경계에서는 영업시간 기준 상태로 맞추고 DB(is_open)에도 반영 -> 사장의 수동 오픈/마감은 다음 경계까지만 유지
+ * - 등록 시 마지막 경계 이후에 수동 변경(open_overridden_at)이 없으면 영업시간 기준으로 맞춤
+ *   (서버가 꺼져 있는 동안 지난 경계도 시작 시 반영)
+ * - tick은 트랜잭션 없이 돌고, 상태가 실제로 바뀔 때만 updateOpen이 자체 트랜잭션으로 UPDATE
+ * - 영업시간이 없거나 오픈=마감이면 자동 전환 없이 수동 상태 그대로
+ * - 주문 생성/가게 조회는 DB 대신 이 상태를 봄
+ */
+@RequiredArgsConstructor
+@Service
+public class StoreOpenScheduler {
+
+    public static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+
+    private final StoreRepository storeRepository;
+
+    private final Map<Long, Boolean> openStates = new ConcurrentHashMap<>();
+    private final Map<Long, Hours> hours = new ConcurrentHashMap<>();
+    // 영업시간이 다시 등록되면 증가 -> 큐에 남은 이전 경계는 무시
+    private final Map<Long, Long> generations = new ConcurrentHashMap<>();
+    private final PriorityQueue<Transition> queue = new PriorityQueue<>(Comparator.comparing(Transition::at));
+
+    private record Hours(LocalTime open, LocalTime close) {
+        boolean isOpenAt(LocalTime t) {
+            return open.isBefore(close)
+                    ? !t.isBefore(open) && t.isBefore(close)
+                    : !t.isBefore(open) || t.isBefore(close); // 자정을 넘기는 영업
+        }
+
+        ZonedDateTime nextBoundary(ZonedDateTime now) {
+            ZonedDateTime nextOpen = next(now, open);
+            ZonedDateTime nextClose = next(now, close);
+            return nextOpen.isBefore(nextClose) ? nextOpen : nextClose;
+        }
+
+        ZonedDateTime lastBoundary(ZonedDateTime now) {
+            ZonedDateTime lastOpen = last(now, open);
+            ZonedDateTime lastClose = last(now, close);
+            return lastOpen.isAfter(lastClose) ? lastOpen : lastClose;
+        }
+
+        private static ZonedDateTime next(ZonedDateTime now, LocalTime at) {
+            ZonedDateTime today = now.with(at);
+            return today.isAfter(now) ? today : today.plusDays(1);
+        }
+
+        private static ZonedDateTime last(ZonedDateTime now, LocalTime at) {
+            ZonedDateTime today = now.with(at);
+            return today.isAfter(now) ? today.minusDays(1) : today;
+        }
+    }
+
+    private record Transition(ZonedDateTime at, Long storeId, long generation) {
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void build() {
+        for (StoreHoursRow row : storeRepository.findHours()) {
+            boolean open = register(row);
+            if (open != row.open()) {
+                storeRepository.updateOpen(row.storeId(), open); // 꺼져 있는 동안 지난 경계
+            }
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onStoreChanged(StoreChangedEvent event) {
+        storeRepository.findHoursById(event.storeId()).ifPresent(this::register);
+    }
+
+    /**
+     * 처음 보는 가게(시작 이후 생성 등)는 이미 로딩된 엔티티 값으로 등록
+     */
+    public boolean isOpen(Store store) {
+        Boolean open = openStates.get(store.getId());
+        if (open != null) {
+            return open;
+        }
+        return register(new StoreHoursRow(store.getId(), store.getOpenTime(), store.getCloseTime(), store.isOpen(),
+                store.getOpenOverriddenAt()));
+    }
+
+    /**
+     * 사장의 수동 오픈/마감 (다음 경계에서 영업시간 기준으로 되돌아감)
+     * - 롤백된 변경이 메모리 상태에 남지 않도록 커밋 이후에만 반영
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onStoreOpenChanged(StoreOpenChangedEvent event) {
+        openStates.put(event.storeId(), event.open());
+    }
+
+    @Scheduled(fixedDelay = 1_000)
+    public void tick() {
+        ZonedDateTime now = ZonedDateTime.now(ZONE);
+        while (true) {
+            Transition due;
+            synchronized (queue) {
+                Transition head = queue.peek();
+                if (head == null || head.at().isAfter(now)) {
+                    return;
+                }
+                due = queue.poll();
+            }
+            if (!generations.getOrDefault(due.storeId(), -1L).equals(due.generation())) {
+                continue;
+            }
+            Hours h = hours.get(due.storeId());
+            if (h == null) {
+                continue;
+            }
+            boolean scheduled = h.isOpenAt(now.toLocalTime());
+            Boolean previous = openStates.put(due.storeId(), scheduled);
+            if (previous == null || previous != scheduled) {
+                storeRepository.updateOpen(due.storeId(), scheduled);
+            }
+            schedule(due.storeId(), due.generation(), h, now);
+        }
+    }
+
+    /**
+     * 마지막 경계 이후의 수동 변경이면 DB 상태 유지, 아니면 영업시간 기준 상태 (DB 반영은 호출한 쪽에서)
+     * @return 등록한 영업 상태
+     */
+    private boolean register(StoreHoursRow row) {
+        long generation = generations.merge(row.storeId(), 1L, Long::sum);
+        if (row.openTime() == null || row.closeTime() == null || row.openTime().equals(row.closeTime())) {
+            hours.remove(row.storeId());
+            openStates.put(row.storeId(), row.open());
+            return row.open();
+        }
+        Hours h = new Hours(row.openTime(), row.closeTime());
+        ZonedDateTime now = ZonedDateTime.now(ZONE);
+        boolean manual = row.openOverriddenAt() != null
+                && !row.openOverriddenAt().atZone(ZONE).isBefore(h.lastBoundary(now));
+        boolean open = manual ? row.open() : h.isOpenAt(now.toLocalTime());
+        hours.put(row.storeId(), h);
+        openStates.put(row.storeId(), open);
+        schedule(row.storeId(), generation, h, now);
+        return open;
+    }
+
+    private void schedule(Long storeId, long generation, Hours h, ZonedDateTime now) {
+        synchronized (queue) {
+            queue.add(new Transition(h.nextBoundary(now), storeId, generation));
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.maejang.store.service;
+
+import com.maejang.global.exception.CustomException;
+import com.maejang.global.exception.ErrorCode;
+import com.maejang.store.event.StoreChangedEvent;
+import com.maejang.store.repository.StoreRepository;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 사장 id -> 가게 id 캐시
+ * - 사장 화면의 거의 모든 요청이 "내 가게"를 찾으므로 매번 조회하지 않도록 메모리에 유지
+ * - 가게가 없는 경우는 캐시하지 않음 (가게 생성 직후 바로 조회되도록)
+ */
+@RequiredArgsConstructor
+@Service
+public class StoreOwnerCache {
+
+    private final StoreRepository storeRepository;
+
+    private final Map<Long, Long> storeIds = new ConcurrentHashMap<>();
+
+    /**
+     * @throws CustomException 가게가 없는 경우 STORE_NOT_FOUND
+     */
+    public Long storeIdOf(Long ownerId) {
+        Long cached = storeIds.get(ownerId);
+        if (cached != null) {
+            return cached;
+        }
+        Long storeId = storeRepository.findStoreIdsByOwnerId(ownerId, Limit.of(1)).stream()
+                .findFirst()
+                .orElseThrow(() -> new CustomException(ErrorCode.STORE_NOT_FOUND));
+        storeIds.put(ownerId, storeId);
+        return storeId;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onStoreChanged(StoreChangedEvent event) {
+        storeIds.remove(event.ownerId());
+    }
+}
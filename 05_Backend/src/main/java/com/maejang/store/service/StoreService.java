@@ -1,14 +1,33 @@
 package com.maejang.store.service;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.maejang.address.domain.Address;
+import com.maejang.address.repository.AddressRepository;
 import com.maejang.global.exception.CustomException;
 import com.maejang.global.exception.ErrorCode;
+import com.maejang.store.domain.DeliveryZone;
 import com.maejang.store.domain.Store;
 import com.maejang.store.dto.request.DeliveryAreaUpdateRequest;
+import com.maejang.store.dto.request.DeliveryZoneRequest;
+import com.maejang.store.dto.request.DeliveryZonesUpdateRequest;
 import com.maejang.store.dto.request.StoreCreateRequest;
+import com.maejang.store.dto.response.DeliveryZoneResponse;
+import com.maejang.store.dto.response.NearbyStoreResponse;
+import com.maejang.store.event.StoreChangedEvent;
+import com.maejang.store.event.StoreOpenChangedEvent;
+import com.maejang.store.repository.DeliveryZoneRepository;
 import com.maejang.store.repository.StoreRepository;
 import com.maejang.user.domain.User;
 import com.maejang.user.repository.UserRepository;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -16,8 +35,19 @@ import org.springframework.transaction.annotation.Transactional;
 @Service
 public class StoreService {
 
+    private static final int DEFAULT_NEARBY_SIZE = 20;
+    private static final int MAX_NEARBY_SIZE = 100;
+
     private final StoreRepository storeRepository;
     private final UserRepository userRepository;
+    private final AddressRepository addressRepository;
+    private final StoreOwnerCache storeOwnerCache;
+    private final StoreSpatialIndex storeSpatialIndex;
+    private final StoreOpenScheduler storeOpenScheduler;
+    private final DeliveryZoneRepository deliveryZoneRepository;
+    private final DeliveryZoneRegistry deliveryZoneRegistry;
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public Long create(Long ownerId, StoreCreateRequest req) {
@@ -39,31 +69,130 @@ public class StoreService {
                 .open(false)
                 .build();
 
-        return storeRepository.save(store).getId();
+        Long storeId = storeRepository.save(store).getId();
+        eventPublisher.publishEvent(new StoreChangedEvent(storeId, ownerId));
+        return storeId;
     }
 
     @Transactional(readOnly = true)
     public Store readByOwner(Long ownerId) {
-        return storeRepository.findFirstByOwnerId(ownerId)
-                .orElseThrow(() -> new CustomException(ErrorCode.STORE_NOT_FOUND));
+        return readById(storeOwnerCache.storeIdOf(ownerId));
     }
 
+    /**
+     * 수동 오픈/마감은 다음 영업시간 경계(오픈/마감 시각)까지만 유지
+     */
     @Transactional
     public void open(Long ownerId) {
-        Store store = readByOwner(ownerId);
-        store.setOpen(true);
+        Long storeId = storeOwnerCache.storeIdOf(ownerId);
+        storeRepository.overrideOpen(storeId, true, LocalDateTime.now(StoreOpenScheduler.ZONE));
+        eventPublisher.publishEvent(new StoreOpenChangedEvent(storeId, true));
     }
 
     @Transactional
     public void close(Long ownerId) {
-        Store store = readByOwner(ownerId);
-        store.setOpen(false);
+        Long storeId = storeOwnerCache.storeIdOf(ownerId);
+        storeRepository.overrideOpen(storeId, false, LocalDateTime.now(StoreOpenScheduler.ZONE));
+        eventPublisher.publishEvent(new StoreOpenChangedEvent(storeId, false));
+    }
+
+    /**
+     * 현재 영업 여부 (DB 컬럼 대신 스케줄러의 메모리 상태)
+     */
+    public boolean isOpen(Store store) {
+        return storeOpenScheduler.isOpen(store);
     }
 
     @Transactional
     public void updateDeliveryArea(Long ownerId, DeliveryAreaUpdateRequest req) {
         Store store = readByOwner(ownerId);
         store.updateDeliveryArea(req.latitude(), req.longitude(), req.deliveryRadius());
+        eventPublisher.publishEvent(new StoreChangedEvent(store.getId(), ownerId));
+    }
+
+    /**
+     * 다각형 배달 구역 전체 교체
+     * - 구역이 하나라도 있으면 배달 반경 대신 구역으로 판정
+     */
+    @Transactional
+    public void updateDeliveryZones(Long ownerId, DeliveryZonesUpdateRequest req) {
+        Store store = readByOwner(ownerId);
+        deliveryZoneRepository.deleteByStoreId(store.getId());
+
+        List<DeliveryZone> zones = new ArrayList<>(req.zones().size());
+        for (DeliveryZoneRequest z : req.zones()) {
+            zones.add(DeliveryZone.builder()
+                    .store(store)
+                    .name(z.name())
+                    .vertices(toJson(z.vertices()))
+                    .deliveryFee(z.deliveryFee())
+                    .minOrderPrice(z.minOrderPrice())
+                    .build());
+        }
+        deliveryZoneRepository.saveAll(zones);
+
+        store.bumpDeliveryAreaVersion();
+        eventPublisher.publishEvent(new StoreChangedEvent(store.getId(), ownerId));
+    }
+
+    @Transactional(readOnly = true)
+    public List<DeliveryZoneResponse> readDeliveryZones(Long ownerId) {
+        Long storeId = storeOwnerCache.storeIdOf(ownerId);
+        List<DeliveryZoneResponse> result = new ArrayList<>();
+        for (DeliveryZone z : deliveryZoneRepository.findByStoreId(storeId)) {
+            List<DeliveryZoneRequest.Vertex> vertices = new ArrayList<>();
+            for (double[] v : deliveryZoneRegistry.parseVertices(z.getVertices())) {
+                vertices.add(new DeliveryZoneRequest.Vertex(v[0], v[1]));
+            }
+            result.add(new DeliveryZoneResponse(z.getId(), z.getName(), vertices, z.getDeliveryFee(), z.getMinOrderPrice()));
+        }
+        return result;
+    }
+
+    private String toJson(List<DeliveryZoneRequest.Vertex> vertices) {
+        double[][] raw = new double[vertices.size()][];
+        for (int i = 0; i < vertices.size(); i++) {
+            raw[i] = new double[]{vertices.get(i).latitude(), vertices.get(i).longitude()};
+        }
+        try {
+            return objectMapper.writeValueAsString(raw);
+        } catch (JsonProcessingException e) {
+            throw new CustomException(ErrorCode.INVALID_INPUT);
+        }
+    }
+
+    /**
+     * 주소로 배달 가능한 가게 (가까운 순)
+     * - 후보 선정/거리 계산은 StoreSpatialIndex, DB는 결과 가게 조회 1회
+     */
+    @Transactional(readOnly = true)
+    public List<NearbyStoreResponse> nearby(Long userId, Long addressId, Integer size) {
+        Address address = addressRepository.findById(addressId)
+                .orElseThrow(() -> new CustomException(ErrorCode.NOT_FOUND));
+        if (!address.getUser().getId().equals(userId)) {
+            throw new CustomException(ErrorCode.FORBIDDEN);
+        }
+        if (address.getLatitude() == null || address.getLongitude() == null) {
+            return List.of();
+        }
+
+        int limit = size == null ? DEFAULT_NEARBY_SIZE : Math.max(1, Math.min(size, MAX_NEARBY_SIZE));
+        List<StoreSpatialIndex.Hit> hits = storeSpatialIndex.deliverableTo(address.getLatitude(), address.getLongitude());
+        if (hits.size() > limit) {
+            hits = hits.subList(0, limit);
+        }
+
+        Map<Long, Store> stores = storeRepository.findAllById(hits.stream().map(StoreSpatialIndex.Hit::storeId).toList())
+                .stream()
+                .collect(Collectors.toMap(Store::getId, Function.identity()));
+        List<NearbyStoreResponse> result = new ArrayList<>(hits.size());
+        for (StoreSpatialIndex.Hit hit : hits) {
+            Store store = stores.get(hit.storeId());
+            if (store != null) {
+                result.add(NearbyStoreResponse.of(store, storeOpenScheduler.isOpen(store), hit.distanceKm(), hit.quote()));
+            }
+        }
+        return result;
     }
 
     @Transactional(readOnly = true)
@@ -0,0 +1,175 @@
+package com.maejang.store.service;
+
+import com.maejang.global.util.DistanceCalculator;
+import com.maejang.global.util.GeoPolygon;
+import com.maejang.store.event.StoreChangedEvent;
+import com.maejang.store.repository.StoreArea;
+import com.maejang.store.repository.StoreRepository;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 가게 배달 권역 공간 색인 (반경 원 / 다각형 구역)
+ * - 위경도 격자(약 2km)에 각 가게 권역을 감싸는 사각형이 걸치는 칸마다 storeId를 등록
+ * - 조회 지점이 속한 칸의 가게만 후보로 보고, 후보에 대해서만 DeliveryZoneRegistry로 정확히 확인
+ * - 시작 시 전체 구성, StoreChangedEvent(커밋 이후)마다 해당 가게만 다시 등록
+ */
+@RequiredArgsConstructor
+@Service
+public class StoreSpatialIndex {
+
+    private static final double CELL_DEGREES = 0.02;
+    private static final double KM_PER_DEGREE = 111.195; // 위도 1도 (지구 반경 6371km 기준)
+    // 권역이 너무 커서 칸이 이보다 많이 필요한 가게는 격자 대신 항상 후보로 둠
+    private static final int MAX_CELLS_PER_STORE = 2_500;
+
+    private final StoreRepository storeRepository;
+    private final DeliveryZoneRegistry deliveryZoneRegistry;
+
+    private final Map<Long, Entry> entries = new ConcurrentHashMap<>();
+    private final Map<Long, Set<Long>> cells = new ConcurrentHashMap<>();
+    private final Set<Long> wide = ConcurrentHashMap.newKeySet();
+
+    /**
+     * @param distanceKm 가게 위치까지 거리 (가게 좌표가 없으면 0)
+     */
+    public record Hit(Long storeId, long deliveryAreaVersion, double distanceKm, DeliveryQuote quote) {
+    }
+
+    private record Entry(StoreArea area, long[] cellKeys) {
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void build() {
+        storeRepository.findDeliveryAreas().forEach(this::put);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onStoreChanged(StoreChangedEvent event) {
+        refresh(event.storeId());
+    }
+
+    public synchronized void refresh(Long storeId) {
+        remove(storeId);
+        storeRepository.findDeliveryAreaById(storeId).ifPresent(this::put);
+    }
+
+    /**
+     * @return (lat, lon)으로 배달 가능한 가게, 가까운 순
+     */
+    public List<Hit> deliverableTo(double latitude, double longitude) {
+        Set<Long> cell = cells.getOrDefault(cellKey(cellIndex(latitude), cellIndex(longitude)), Set.of());
+        List<Hit> hits = new ArrayList<>();
+        collect(cell, latitude, longitude, hits);
+        collect(wide, latitude, longitude, hits);
+        hits.sort(Comparator.comparingDouble(Hit::distanceKm).thenComparing(Hit::storeId));
+        return hits;
+    }
+
+    private void collect(Set<Long> candidates, double latitude, double longitude, List<Hit> hits) {
+        for (Long storeId : candidates) {
+            Entry e = entries.get(storeId);
+            if (e == null) {
+                continue;
+            }
+            StoreArea a = e.area();
+            DeliveryQuote quote = deliveryZoneRegistry.quote(storeId, a.latitude(), a.longitude(), a.deliveryRadius(),
+                    latitude, longitude);
+            if (quote.deliverable()) {
+                double distance = a.latitude() == null || a.longitude() == null ? 0.0
+                        : DistanceCalculator.calculateDistance(a.latitude(), a.longitude(), latitude, longitude);
+                hits.add(new Hit(storeId, a.deliveryAreaVersion(), distance, quote));
+            }
+        }
+    }
+
+    private void put(StoreArea area) {
+        double[] box = boundingBox(area);
+        if (box == null) {
+            return;
+        }
+        long minLat = cellIndex(box[0]), maxLat = cellIndex(box[1]);
+        long minLon = cellIndex(box[2]), maxLon = cellIndex(box[3]);
+        long count = (maxLat - minLat + 1) * (maxLon - minLon + 1);
+
+        long[] keys;
+        if (count > MAX_CELLS_PER_STORE) {
+            keys = new long[0];
+            wide.add(area.storeId());
+        } else {
+            keys = new long[(int) count];
+            int i = 0;
+            for (long y = minLat; y <= maxLat; y++) {
+                for (long x = minLon; x <= maxLon; x++) {
+                    keys[i++] = cellKey(y, x);
+                }
+            }
+        }
+        entries.put(area.storeId(), new Entry(area, keys));
+        for (long key : keys) {
+            cells.computeIfAbsent(key, k -> ConcurrentHashMap.newKeySet()).add(area.storeId());
+        }
+    }
+
+    /**
+     * 권역을 감싸는 사각형 {minLat, maxLat, minLon, maxLon}, 권역이 없으면 null
+     * - 다각형 구역이 있으면 구역들의 bbox 합, 없으면 배달 원의 bbox
+     */
+    private double[] boundingBox(StoreArea area) {
+        List<DeliveryZoneRegistry.Zone> zones = deliveryZoneRegistry.zonesOf(area.storeId());
+        if (!zones.isEmpty()) {
+            double[] box = {Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY,
+                    Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY};
+            for (DeliveryZoneRegistry.Zone zone : zones) {
+                GeoPolygon p = zone.polygon();
+                box[0] = Math.min(box[0], p.getMinLat());
+                box[1] = Math.max(box[1], p.getMaxLat());
+                box[2] = Math.min(box[2], p.getMinLon());
+                box[3] = Math.max(box[3], p.getMaxLon());
+            }
+            return box;
+        }
+        if (area.latitude() == null || area.longitude() == null || area.deliveryRadius() == null) {
+            return null;
+        }
+        double lat = area.latitude();
+        double lon = area.longitude();
+        // 경도 폭은 위도가 높을수록 넓어지므로 극 쪽 모서리 기준
+        double dLat = area.deliveryRadius() / KM_PER_DEGREE;
+        double maxAbsLat = Math.min(89.0, Math.abs(lat) + dLat);
+        double dLon = Math.min(180.0, area.deliveryRadius() / (KM_PER_DEGREE * Math.cos(Math.toRadians(maxAbsLat))));
+        return new double[]{lat - dLat, lat + dLat, lon - dLon, lon + dLon};
+    }
+
+    private void remove(Long storeId) {
+        Entry old = entries.remove(storeId);
+        wide.remove(storeId);
+        if (old == null) {
+            return;
+        }
+        for (long key : old.cellKeys()) {
+            cells.computeIfPresent(key, (k, ids) -> {
+                ids.remove(storeId);
+                return ids.isEmpty() ? null : ids;
+            });
+        }
+    }
+
+    private static long cellIndex(double degrees) {
+        return (long) Math.floor(degrees / CELL_DEGREES);
+    }
+
+    private static long cellKey(long latIndex, long lonIndex) {
+        return (latIndex << 32) | (lonIndex & 0xffffffffL);
+    }
+}
@@ -7,6 +7,7 @@ import com.maejang.user.dto.request.EmailDuplicateRequest;
 import com.maejang.user.dto.response.EmailDuplicateResponse;
 import com.maejang.user.dto.response.UserIdResponse;
 import com.maejang.user.service.UserService;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
@@ -38,9 +39,9 @@ public class UserController {
     }
 
     @PostMapping("/login")
-    public ResponseEntity<JSONResponse<UserIdResponse>> login(@Valid @RequestBody UserLoginRequest req) {
+    public ResponseEntity<JSONResponse<UserIdResponse>> login(@Valid @RequestBody UserLoginRequest req, HttpServletRequest request) {
         // NOTE: JWT 쿠키 로그인은 /api/v1/auth/login 사용
-        Long userId = userService.login(req);
+        Long userId = userService.login(req, request.getRemoteAddr());
         return ResponseEntity.ok(JSONResponse.success(new UserIdResponse(userId)));
     }
 
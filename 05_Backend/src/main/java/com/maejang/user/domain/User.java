@@ -44,6 +44,13 @@ public class User {
         this.role = role;
         this.name = name;
     }
+
+    /**
+     * @param encodedPassword 인코딩된 비밀번호 (평문 X)
+     */
+    public void updatePassword(String encodedPassword) {
+        this.password = encodedPassword;
+    }
 }
 
 
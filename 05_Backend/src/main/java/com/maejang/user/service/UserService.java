@@ -1,5 +1,7 @@
 package com.maejang.user.service;
 
+import com.maejang.auth.service.LoginAuthenticator;
+import com.maejang.auth.service.PasswordHashExecutor;
 import com.maejang.global.exception.CustomException;
 import com.maejang.global.exception.ErrorCode;
 import com.maejang.user.dto.request.UserLoginRequest;
@@ -7,7 +9,6 @@ import com.maejang.user.dto.request.UserSignupRequest;
 import com.maejang.user.domain.User;
 import com.maejang.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -16,7 +17,8 @@ import org.springframework.transaction.annotation.Transactional;
 public class UserService {
 
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashExecutor passwordHashExecutor;
+    private final LoginAuthenticator loginAuthenticator;
 
     @Transactional(readOnly = true)
     public boolean isEmailDuplicate(String email) {
@@ -31,7 +33,7 @@ public class UserService {
 
         User user = User.builder()
                 .email(req.email())
-                .password(passwordEncoder.encode(req.password()))
+                .password(passwordHashExecutor.encode(req.password()))
                 .role(req.role())
                 .name(req.name())
                 .build();
@@ -42,16 +44,8 @@ public class UserService {
     /**
      * TODO: JWT 도입 시 토큰 발급으로 변경
      */
-    @Transactional(readOnly = true)
-    public Long login(UserLoginRequest req) {
-        User user = userRepository.findByEmail(req.email())
-                .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
-
-        if (!passwordEncoder.matches(req.password(), user.getPassword())) {
-            throw new CustomException(ErrorCode.INVALID_USER_INFO);
-        }
-
-        return user.getId();
+    public Long login(UserLoginRequest req, String clientIp) {
+        return loginAuthenticator.authenticate(req.email(), req.password(), clientIp).getId();
     }
 }
 
@@ -0,0 +1,3 @@
+-- 멱등 키와 함께 요청 본문 해시 저장 (같은 키를 다른 주문 본문으로 재사용하면 거절)
+-- 기존 행은 NULL -> 비교 없이 최초 주문 id 반환
+ALTER TABLE order_idempotency_keys ADD COLUMN request_hash CHAR(64) NULL;
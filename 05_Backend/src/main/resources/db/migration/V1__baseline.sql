@@ -0,0 +1,89 @@
+-- ddl-auto: update 로 만들어진 기존 스키마 (기존 DB는 baseline-on-migrate로 이 버전을 건너뜀)
+
+CREATE TABLE users (
+    user_id  BIGINT       NOT NULL AUTO_INCREMENT,
+    email    VARCHAR(255) NOT NULL,
+    password VARCHAR(255) NOT NULL,
+    role     ENUM ('CUSTOMER','OWNER') NOT NULL,
+    name     VARCHAR(100) NOT NULL,
+    PRIMARY KEY (user_id),
+    CONSTRAINT uk_users_email UNIQUE (email)
+) ENGINE = InnoDB;
+
+CREATE TABLE stores (
+    store_id        BIGINT        NOT NULL AUTO_INCREMENT,
+    user_id         BIGINT        NOT NULL,
+    store_name      VARCHAR(200)  NOT NULL,
+    address         VARCHAR(500)  NOT NULL,
+    description     VARCHAR(1000),
+    picture         VARCHAR(1000),
+    open_time       TIME(6),
+    close_time      TIME(6),
+    is_open         BIT           NOT NULL,
+    latitude        FLOAT(53),
+    longitude       FLOAT(53),
+    delivery_radius FLOAT(53),
+    PRIMARY KEY (store_id),
+    CONSTRAINT fk_stores_user FOREIGN KEY (user_id) REFERENCES users (user_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE menus (
+    menu_id     BIGINT        NOT NULL AUTO_INCREMENT,
+    user_id     BIGINT        NOT NULL,
+    menu_name   VARCHAR(200)  NOT NULL,
+    picture     VARCHAR(1000),
+    price       INTEGER       NOT NULL,
+    description VARCHAR(1000),
+    menu_option VARCHAR(1000),
+    category    VARCHAR(50),
+    is_deleted  BIT,
+    PRIMARY KEY (menu_id),
+    CONSTRAINT fk_menus_user FOREIGN KEY (user_id) REFERENCES users (user_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE addresses (
+    address_id BIGINT       NOT NULL AUTO_INCREMENT,
+    user_id    BIGINT       NOT NULL,
+    name       VARCHAR(100) NOT NULL,
+    address    VARCHAR(500) NOT NULL,
+    is_default BIT          NOT NULL,
+    latitude   FLOAT(53),
+    longitude  FLOAT(53),
+    PRIMARY KEY (address_id),
+    CONSTRAINT fk_addresses_user FOREIGN KEY (user_id) REFERENCES users (user_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE cart_items (
+    cart_item_id BIGINT        NOT NULL AUTO_INCREMENT,
+    user_id      BIGINT        NOT NULL,
+    menu_id      BIGINT        NOT NULL,
+    menu_option  VARCHAR(1000),
+    count        INTEGER       NOT NULL,
+    PRIMARY KEY (cart_item_id),
+    CONSTRAINT fk_cart_items_user FOREIGN KEY (user_id) REFERENCES users (user_id),
+    CONSTRAINT fk_cart_items_menu FOREIGN KEY (menu_id) REFERENCES menus (menu_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE orders (
+    order_id     BIGINT        NOT NULL AUTO_INCREMENT,
+    user_id      BIGINT        NOT NULL,
+    store_id     BIGINT        NOT NULL,
+    price        INTEGER       NOT NULL,
+    request      VARCHAR(1000),
+    order_status ENUM ('CANCELLED','COOKING','DELIVERED','DELIVERING','ORDERED','REJECTED') NOT NULL,
+    order_at     DATETIME(6)   NOT NULL,
+    PRIMARY KEY (order_id),
+    CONSTRAINT fk_orders_user FOREIGN KEY (user_id) REFERENCES users (user_id),
+    CONSTRAINT fk_orders_store FOREIGN KEY (store_id) REFERENCES stores (store_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE order_menus (
+    order_menu_id BIGINT        NOT NULL AUTO_INCREMENT,
+    order_id      BIGINT        NOT NULL,
+    menu_id       BIGINT        NOT NULL,
+    menu_option   VARCHAR(1000),
+    count         INTEGER       NOT NULL,
+    PRIMARY KEY (order_menu_id),
+    CONSTRAINT fk_order_menus_order FOREIGN KEY (order_id) REFERENCES orders (order_id),
+    CONSTRAINT fk_order_menus_menu FOREIGN KEY (menu_id) REFERENCES menus (menu_id)
+) ENGINE = InnoDB;
@@ -0,0 +1,41 @@
+-- baseline(V1) 이후 추가된 테이블/컬럼
+-- 주문 생성 멱등 키 (order.idempotency.persistent=true 일 때 사용)
+CREATE TABLE order_idempotency_keys (
+    order_idempotency_key_id BIGINT       NOT NULL AUTO_INCREMENT,
+    user_id                  BIGINT       NOT NULL,
+    idempotency_key          VARCHAR(255) NOT NULL,
+    order_id                 BIGINT       NOT NULL,
+    created_at               DATETIME(6)  NOT NULL,
+    PRIMARY KEY (order_idempotency_key_id),
+    CONSTRAINT uk_order_idempotency_user_key UNIQUE (user_id, idempotency_key)
+) ENGINE = InnoDB;
+
+-- 주문 품목 가격 스냅샷 (기존 행은 NULL → 조회 시 메뉴 현재 가격으로 대체)
+ALTER TABLE order_menus ADD COLUMN unit_price INTEGER NULL;
+ALTER TABLE order_menus ADD COLUMN option_price INTEGER NULL;
+
+-- 조회 패턴에 맞춘 복합 인덱스
+-- FK용으로 MySQL이 자동 생성한 인덱스는 같은 컬럼으로 시작하는 인덱스가 생기면 대체됨
+
+-- 가게/고객 주문 목록: WHERE store_id|user_id = ? ORDER BY order_at DESC, order_id DESC (keyset)
+-- 보조 인덱스 끝에 PK(order_id)가 붙으므로 역방향 스캔으로 정렬까지 처리
+CREATE INDEX idx_orders_store_order_at ON orders (store_id, order_at);
+CREATE INDEX idx_orders_user_order_at ON orders (user_id, order_at);
+
+-- 주문 품목 일괄 조회: WHERE order_id IN (...)
+CREATE INDEX idx_order_menus_order ON order_menus (order_id);
+
+-- 장바구니: WHERE user_id = ?
+CREATE INDEX idx_cart_items_user ON cart_items (user_id);
+
+-- 주소 목록/기본 주소: WHERE user_id = ? [AND is_default = true]
+CREATE INDEX idx_addresses_user_default ON addresses (user_id, is_default);
+
+-- 사장 메뉴 목록: WHERE user_id = ? AND is_deleted = false (@Where)
+CREATE INDEX idx_menus_owner_deleted ON menus (user_id, is_deleted);
+
+-- 사장 가게 조회: WHERE user_id = ?
+CREATE INDEX idx_stores_owner ON stores (user_id);
+
+-- 만료 키 정리: WHERE created_at < ?
+CREATE INDEX idx_order_idempotency_created_at ON order_idempotency_keys (created_at);
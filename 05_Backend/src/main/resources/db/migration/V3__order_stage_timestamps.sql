@@ -0,0 +1,8 @@
+-- 단계별 처리 시각 (사장 대시보드의 평균 수락/조리/배달 시간 집계용)
+-- (컬럼별 ALTER: HotQueryPlanTest가 H2 MySQL 모드에서도 같은 스크립트를 실행)
+ALTER TABLE orders ADD COLUMN accepted_at DATETIME(6) NULL;
+ALTER TABLE orders ADD COLUMN departed_at DATETIME(6) NULL;
+ALTER TABLE orders ADD COLUMN delivered_at DATETIME(6) NULL;
+
+-- 시작 시 오늘 주문으로 대시보드를 재구성할 때 사용
+CREATE INDEX idx_orders_order_at ON orders (order_at);
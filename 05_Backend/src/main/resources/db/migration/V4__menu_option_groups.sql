@@ -0,0 +1,29 @@
+-- 구조화된 메뉴 옵션 (기존 menus.menu_option 문자열은 시작 시 MenuOptionBackfill이 변환)
+CREATE TABLE menu_option_groups (
+    option_group_id BIGINT       NOT NULL AUTO_INCREMENT,
+    menu_id         BIGINT       NOT NULL,
+    name            VARCHAR(100) NOT NULL,
+    is_required     BIT          NOT NULL,
+    max_select      INTEGER      NOT NULL,
+    sort_order      INTEGER      NOT NULL,
+    PRIMARY KEY (option_group_id),
+    CONSTRAINT fk_menu_option_groups_menu FOREIGN KEY (menu_id) REFERENCES menus (menu_id)
+) ENGINE = InnoDB;
+
+CREATE INDEX idx_menu_option_groups_menu ON menu_option_groups (menu_id);
+
+CREATE TABLE menu_option_choices (
+    option_choice_id BIGINT       NOT NULL AUTO_INCREMENT,
+    option_group_id  BIGINT       NOT NULL,
+    name             VARCHAR(100) NOT NULL,
+    price            INTEGER      NOT NULL,
+    sort_order       INTEGER      NOT NULL,
+    PRIMARY KEY (option_choice_id),
+    CONSTRAINT fk_menu_option_choices_group FOREIGN KEY (option_group_id) REFERENCES menu_option_groups (option_group_id)
+) ENGINE = InnoDB;
+
+CREATE INDEX idx_menu_option_choices_group ON menu_option_choices (option_group_id);
+
+-- 장바구니/주문 품목이 선택지 id를 참조
+ALTER TABLE cart_items ADD COLUMN option_choice_ids VARCHAR(500) NULL;
+ALTER TABLE order_menus ADD COLUMN option_choice_ids VARCHAR(500) NULL;
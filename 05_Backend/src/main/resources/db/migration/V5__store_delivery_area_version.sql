@@ -0,0 +1,2 @@
+-- 배달 권역이 바뀔 때마다 증가 (주소-가게 배달 가능 여부 캐시의 키로 사용)
+ALTER TABLE stores ADD COLUMN delivery_area_version BIGINT DEFAULT 0 NOT NULL;
@@ -0,0 +1,16 @@
+-- 다각형 배달 구역 (가게당 여러 개, 구역별 배달비/최소주문금액)
+CREATE TABLE delivery_zones (
+    delivery_zone_id BIGINT       NOT NULL AUTO_INCREMENT,
+    store_id         BIGINT       NOT NULL,
+    name             VARCHAR(100) NOT NULL,
+    vertices         TEXT         NOT NULL,
+    delivery_fee     INTEGER      NOT NULL,
+    min_order_price  INTEGER      NOT NULL,
+    PRIMARY KEY (delivery_zone_id),
+    CONSTRAINT fk_delivery_zones_store FOREIGN KEY (store_id) REFERENCES stores (store_id)
+) ENGINE = InnoDB;
+
+CREATE INDEX idx_delivery_zones_store ON delivery_zones (store_id);
+
+-- 주문 시점의 배달비 (price는 메뉴 합계 그대로)
+ALTER TABLE orders ADD COLUMN delivery_fee INTEGER DEFAULT 0 NOT NULL;
@@ -0,0 +1,14 @@
+-- 회전(rotation)형 refresh token (원문 대신 SHA-256 해시만 저장)
+CREATE TABLE refresh_tokens (
+    refresh_token_id BIGINT      NOT NULL AUTO_INCREMENT,
+    user_id          BIGINT      NOT NULL,
+    token_hash       CHAR(64)    NOT NULL,
+    created_at       DATETIME(6) NOT NULL,
+    expires_at       DATETIME(6) NOT NULL,
+    revoked_at       DATETIME(6) NULL,
+    PRIMARY KEY (refresh_token_id),
+    CONSTRAINT uk_refresh_tokens_hash UNIQUE (token_hash)
+) ENGINE = InnoDB;
+
+CREATE INDEX idx_refresh_tokens_user ON refresh_tokens (user_id);
+CREATE INDEX idx_refresh_tokens_expires_at ON refresh_tokens (expires_at);
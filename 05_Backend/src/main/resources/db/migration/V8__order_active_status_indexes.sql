@@ -0,0 +1,4 @@
+-- "진행중 + 오늘" 기본 목록의 진행중 부분: WHERE store_id|user_id = ? AND order_status IN (...) AND order_at < ?
+-- 상태별로 범위 스캔하므로 과거 완료 주문을 읽지 않음 (order_at 구간은 기존 (store_id|user_id, order_at) 인덱스 사용)
+CREATE INDEX idx_orders_store_status_order_at ON orders (store_id, order_status, order_at);
+CREATE INDEX idx_orders_user_status_order_at ON orders (user_id, order_status, order_at);
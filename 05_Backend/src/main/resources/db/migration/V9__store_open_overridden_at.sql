@@ -0,0 +1,2 @@
+-- 사장이 마지막으로 수동 오픈/마감한 시각 (서버가 꺼져 있는 동안 지난 영업시간 경계를 시작 시 반영할지 판단)
+ALTER TABLE stores ADD COLUMN open_overridden_at DATETIME(6) NULL;
@@ -0,0 +1,90 @@
+package com.maejang;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * 자주 호출되는 조회가 마이그레이션(db/migration)으로 만든 인덱스를 타는지 H2 실행 계획(EXPLAIN)으로 확인
+ * - 엔티티 create-drop 대신 Flyway 스크립트를 H2 MySQL 모드에서 그대로 실행
+ * - H2는 FK 컬럼에 인덱스를 자동으로 만들기 때문에 "tableScan이 아님"이 아니라 사용한 인덱스 이름으로 확인
+ *   (복합 인덱스 또는 FK가 아닌 컬럼의 인덱스만 대상)
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:flyway_plan;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+        "spring.flyway.enabled=true",
+        "spring.jpa.hibernate.ddl-auto=none"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class HotQueryPlanTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void storeOrderPage() {
+        assertUsesIndex("idx_orders_store_order_at", """
+                SELECT o.order_id FROM orders o
+                WHERE o.store_id = 1
+                  AND o.order_at < TIMESTAMP '2030-01-01 00:00:00'
+                ORDER BY o.order_at DESC, o.order_id DESC
+                LIMIT 21
+                """);
+    }
+
+    @Test
+    void userOrderPage() {
+        assertUsesIndex("idx_orders_user_order_at", """
+                SELECT o.order_id FROM orders o
+                WHERE o.user_id = 1
+                  AND o.order_at < TIMESTAMP '2030-01-01 00:00:00'
+                ORDER BY o.order_at DESC, o.order_id DESC
+                LIMIT 21
+                """);
+    }
+
+    @Test
+    void todayOrdersForDashboard() {
+        assertUsesIndex("idx_orders_order_at",
+                "SELECT o.order_id FROM orders o WHERE o.order_at >= TIMESTAMP '2030-01-01 00:00:00'");
+    }
+
+    @Test
+    void defaultAddress() {
+        assertUsesIndex("idx_addresses_user_default",
+                "SELECT a.address_id FROM addresses a WHERE a.user_id = 1 AND a.is_default = TRUE");
+    }
+
+    @Test
+    void ownerMenus() {
+        assertUsesIndex("idx_menus_owner_deleted",
+                "SELECT m.menu_id FROM menus m WHERE m.user_id = 1 AND m.is_deleted = FALSE");
+    }
+
+    @Test
+    void expiredIdempotencyKeys() {
+        assertUsesIndex("idx_order_idempotency_created_at",
+                "SELECT k.order_idempotency_key_id FROM order_idempotency_keys k WHERE k.created_at < TIMESTAMP '2030-01-01 00:00:00'");
+    }
+
+    @Test
+    void refreshTokensByUser() {
+        assertUsesIndex("idx_refresh_tokens_user",
+                "SELECT r.refresh_token_id FROM refresh_tokens r WHERE r.user_id = 1");
+    }
+
+    @Test
+    void expiredRefreshTokens() {
+        assertUsesIndex("idx_refresh_tokens_expires_at",
+                "SELECT r.refresh_token_id FROM refresh_tokens r WHERE r.expires_at < TIMESTAMP '2030-01-01 00:00:00'");
+    }
+
+    private void assertUsesIndex(String indexName, String sql) {
+        String plan = jdbcTemplate.queryForObject("EXPLAIN " + sql, String.class);
+        assertThat(plan).containsIgnoringCase(indexName);
+    }
+}
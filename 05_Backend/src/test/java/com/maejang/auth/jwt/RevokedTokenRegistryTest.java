@@ -0,0 +1,40 @@
+package com.maejang.auth.jwt;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.maejang.user.domain.UserRole;
+import org.junit.jupiter.api.Test;
+
+/**
+ * 사용자 단위 폐기 (iat가 초 단위라 폐기 시점과 같은 초에 발급된 토큰도 무효)
+ */
+class RevokedTokenRegistryTest {
+
+    private final RevokedTokenRegistry registry = new RevokedTokenRegistry();
+
+    @Test
+    void revokesTokenIssuedInSameSecond() {
+        long now = System.currentTimeMillis() / 1000 * 1000 + 700;
+        registry.revokeAllIssuedBefore(1L, now);
+
+        // 같은 초(iat 내림)에 발급된 토큰
+        assertThat(registry.isRevoked(token(1L, now / 1000 * 1000))).isTrue();
+        assertThat(registry.isRevoked(token(1L, now / 1000 * 1000 - 1000))).isTrue();
+        // 다음 초에 발급된 토큰과 다른 사용자는 유효
+        assertThat(registry.isRevoked(token(1L, now / 1000 * 1000 + 1000))).isFalse();
+        assertThat(registry.isRevoked(token(2L, now / 1000 * 1000))).isFalse();
+    }
+
+    @Test
+    void revokesTokenIssuedExactlyAtCutoff() {
+        long now = System.currentTimeMillis() / 1000 * 1000;
+        registry.revokeAllIssuedBefore(1L, now);
+
+        assertThat(registry.isRevoked(token(1L, now))).isTrue();
+    }
+
+    private static VerifiedToken token(Long userId, long issuedAtMillis) {
+        return new VerifiedToken("jti-" + issuedAtMillis, userId, "user@test.com", UserRole.CUSTOMER,
+                issuedAtMillis, issuedAtMillis + JwtProperties.ACCESS_TOKEN_TTL.toMillis(), null);
+    }
+}
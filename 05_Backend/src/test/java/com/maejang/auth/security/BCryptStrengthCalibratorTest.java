@@ -0,0 +1,30 @@
+package com.maejang.auth.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * 측정값(cost 10 해시 시간) → cost 선택
+ */
+class BCryptStrengthCalibratorTest {
+
+    @Test
+    void picksLargestStrengthWithinTarget() {
+        // 50ms → 11: 100ms, 12: 200ms, 13: 400ms
+        assertThat(BCryptStrengthCalibrator.strengthFor(50, 250)).isEqualTo(12);
+        assertThat(BCryptStrengthCalibrator.strengthFor(50, 200)).isEqualTo(12);
+    }
+
+    @Test
+    void neverGoesBelowMinimum() {
+        assertThat(BCryptStrengthCalibrator.strengthFor(400, 250))
+                .isEqualTo(BCryptStrengthCalibrator.MIN_STRENGTH);
+    }
+
+    @Test
+    void capsAtMaximumOnFastMachines() {
+        assertThat(BCryptStrengthCalibrator.strengthFor(1, 250))
+                .isEqualTo(BCryptStrengthCalibrator.MAX_STRENGTH);
+    }
+}
@@ -0,0 +1,50 @@
+package com.maejang.global.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+/**
+ * CSV 파싱 (따옴표 필드, "" 이스케이프, BOM, CRLF)
+ */
+class CsvParserTest {
+
+    @Test
+    void keepsCommasAndNewlinesInsideQuotes() {
+        List<List<String>> rows = CsvParser.parse("menuName,option\n\"피자, 라지\",\"치즈+500,\n콜라+0\"\n");
+
+        assertThat(rows).containsExactly(
+                List.of("menuName", "option"),
+                List.of("피자, 라지", "치즈+500,\n콜라+0"));
+    }
+
+    @Test
+    void unescapesDoubledQuotes() {
+        assertThat(CsvParser.parse("\"12\"\" 피자\",\"\"\"\"\n")).containsExactly(List.of("12\" 피자", "\""));
+    }
+
+    @Test
+    void stripsBomAndHandlesCrlf() {
+        List<List<String>> rows = CsvParser.parse("\uFEFFmenuName,price\r\n피자,18000\r\n콜라,2000");
+
+        assertThat(rows).containsExactly(
+                List.of("menuName", "price"),
+                List.of("피자", "18000"),
+                List.of("콜라", "2000"));
+    }
+
+    @Test
+    void keepsEmptyFieldsAndSkipsBlankLines() {
+        assertThat(CsvParser.parse("a,,c\n\n\r\n,b,\n")).containsExactly(
+                List.of("a", "", "c"),
+                List.of("", "b", ""));
+    }
+
+    @Test
+    void rejectsUnclosedQuote() {
+        assertThatThrownBy(() -> CsvParser.parse("menuName\n\"피자\n"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
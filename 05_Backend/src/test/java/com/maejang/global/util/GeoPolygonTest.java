@@ -0,0 +1,52 @@
+package com.maejang.global.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * 배달 구역 판정 (bbox + ray casting)
+ */
+class GeoPolygonTest {
+
+    // ㄷ자 모양 (오른쪽이 뚫린 오목 다각형) - 강/도로로 파인 구역 흉내
+    private final GeoPolygon concave = new GeoPolygon(
+            new double[]{37.50, 37.50, 37.48, 37.48, 37.42, 37.42, 37.40, 37.40},
+            new double[]{127.00, 127.10, 127.10, 127.02, 127.02, 127.10, 127.10, 127.00});
+
+    @Test
+    void containsInteriorPoints() {
+        assertThat(concave.contains(37.49, 127.05)).isTrue();
+        assertThat(concave.contains(37.45, 127.01)).isTrue();
+        assertThat(concave.contains(37.41, 127.08)).isTrue();
+    }
+
+    @Test
+    void excludesConcaveNotchInsideBoundingBox() {
+        assertThat(concave.contains(37.45, 127.05)).isFalse();
+    }
+
+    @Test
+    void excludesPointsOutsideBoundingBox() {
+        assertThat(concave.contains(37.60, 127.05)).isFalse();
+        assertThat(concave.contains(37.45, 126.90)).isFalse();
+    }
+
+    @Test
+    void handlesPolygonWithManyVertices() {
+        int n = 500;
+        double[] lats = new double[n];
+        double[] lons = new double[n];
+        for (int i = 0; i < n; i++) {
+            double t = 2 * Math.PI * i / n;
+            lats[i] = 37.5 + 0.05 * Math.sin(t);
+            lons[i] = 127.0 + 0.05 * Math.cos(t);
+        }
+        GeoPolygon circle = new GeoPolygon(lats, lons);
+
+        assertThat(circle.contains(37.5, 127.0)).isTrue();
+        assertThat(circle.contains(37.5, 127.049)).isTrue();
+        assertThat(circle.contains(37.5, 127.051)).isFalse();
+        assertThat(circle.contains(37.54, 127.04)).isFalse();
+    }
+}
@@ -0,0 +1,171 @@
+package com.maejang.menu.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.maejang.cart.domain.CartItem;
+import com.maejang.menu.domain.Menu;
+import com.maejang.menu.domain.MenuOptionChoice;
+import com.maejang.menu.domain.MenuOptionGroup;
+import com.maejang.menu.dto.request.MenuUpsertRequest;
+import com.maejang.menu.dto.response.MenuImportResponse;
+import com.maejang.menu.repository.MenuBatchRepository;
+import com.maejang.user.domain.User;
+import com.maejang.user.domain.UserRole;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * 메뉴 일괄 등록 upsert (메뉴명 매칭, 들어온 컬럼만 수정, 옵션 선택지 제자리 병합)
+ */
+@DataJpaTest
+@Import({MenuImportService.class, MenuBatchRepository.class, MenuOptionPricer.class, MenuCatalogCache.class,
+        JacksonAutoConfiguration.class})
+class MenuImportServiceTest {
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private MenuImportService menuImportService;
+
+    @Autowired
+    private MenuOptionPricer menuOptionPricer;
+
+    private User owner;
+    private Menu pizza;
+
+    @BeforeEach
+    void setUp() {
+        owner = em.persist(User.builder().email("owner@test.com").password("pw").role(UserRole.OWNER).name("사장").build());
+        User other = em.persist(User.builder().email("other@test.com").password("pw").role(UserRole.OWNER).name("다른 사장").build());
+        pizza = em.persist(Menu.builder().owner(owner).menuName("피자").price(18000)
+                .picture("pizza.png").description("치즈 듬뿍").option("치즈추가+500").category("피자").build());
+        em.persist(Menu.builder().owner(other).menuName("콜라").price(1500).build());
+        em.flush();
+        em.clear();
+    }
+
+    @Test
+    void updatesByMenuNameAndInsertsTheRest() {
+        MenuImportResponse result = menuImportService.importCsv(owner.getId(),
+                "menuName,price\n 피자 ,19000\n콜라,2000\n");
+
+        assertThat(result.inserted()).isEqualTo(1);
+        assertThat(result.updated()).isEqualTo(1);
+        assertThat(result.errors()).isEmpty();
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT price FROM menus WHERE menu_id = ?", Integer.class, pizza.getMenuId())).isEqualTo(19000);
+        // 다른 사장의 같은 이름 메뉴와는 매칭하지 않음
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM menus WHERE user_id = ? AND menu_name = '콜라'", Integer.class, owner.getId()))
+                .isEqualTo(1);
+    }
+
+    @Test
+    void keepsColumnsMissingFromCsvHeader() {
+        menuImportService.importCsv(owner.getId(), "menuName,price,category\n피자,19000,\n");
+
+        Map<String, Object> row = menu(pizza.getMenuId());
+        assertThat(row.get("picture")).isEqualTo("pizza.png");
+        assertThat(row.get("description")).isEqualTo("치즈 듬뿍");
+        assertThat(row.get("menu_option")).isEqualTo("치즈추가+500");
+        // 헤더에 있는 빈 칸은 비우기
+        assertThat(row.get("category")).isNull();
+    }
+
+    @Test
+    void keepsNullJsonFields() {
+        menuImportService.importJson(owner.getId(), List.of(
+                new MenuUpsertRequest("피자", null, 19000, "", null, "이탈리안", null)));
+
+        Map<String, Object> row = menu(pizza.getMenuId());
+        assertThat(row.get("picture")).isEqualTo("pizza.png");
+        assertThat(row.get("description")).isNull();
+        assertThat(row.get("menu_option")).isEqualTo("치즈추가+500");
+        assertThat(row.get("category")).isEqualTo("이탈리안");
+    }
+
+    @Test
+    void mergesOptionGroupsOnlyWhenOptionChanged() {
+        menuImportService.importCsv(owner.getId(),
+                "menuName,price,option\n피자,18000,치즈추가+500\n콜라,2000,\"제로+0,라지+500\"\n");
+        em.flush();
+        // option이 같으면 그룹을 건드리지 않음 (백필 전 데이터라 그룹 없음)
+        assertThat(choices(pizza.getMenuId())).isEmpty();
+
+        menuImportService.importCsv(owner.getId(), "menuName,price,option\n피자,18000,\"치즈추가+700,올리브+300\"\n");
+        em.flush();
+        assertThat(choices(pizza.getMenuId())).containsExactly("치즈추가:700", "올리브:300");
+
+        Long colaId = jdbcTemplate.queryForObject(
+                "SELECT menu_id FROM menus WHERE user_id = ? AND menu_name = '콜라'", Long.class, owner.getId());
+        assertThat(choices(colaId)).containsExactly("제로:0", "라지:500");
+    }
+
+    @Test
+    void keepsCartChoiceIdsAndGroupRulesWhenOptionChanges() {
+        MenuOptionGroup topping = MenuOptionGroup.builder().name("토핑").required(true).maxSelect(1).sortOrder(0).build();
+        topping.addChoice(MenuOptionChoice.builder().name("치즈추가").price(500).sortOrder(0).build());
+        topping.addChoice(MenuOptionChoice.builder().name("베이컨").price(1000).sortOrder(1).build());
+        Menu pasta = Menu.builder().owner(owner).menuName("파스타").price(15000).build();
+        pasta.replaceOptionGroups(List.of(topping));
+        em.persist(pasta);
+        em.flush();
+        User customer = em.persist(User.builder().email("customer@test.com").password("pw").role(UserRole.CUSTOMER).name("고객").build());
+        CartItem cartItem = em.persist(CartItem.builder().user(customer).menu(pasta).option("치즈추가")
+                .optionChoiceIds(String.valueOf(topping.getChoices().get(0).getId())).count(1).build());
+        em.flush();
+        em.clear();
+
+        menuImportService.importCsv(owner.getId(), "menuName,price,option\n파스타,15000,치즈추가+700\n");
+        em.flush();
+        em.clear();
+
+        // 장바구니의 선택지 id로 그대로 주문 가능 (바뀐 가격 적용)
+        CartItem saved = em.find(CartItem.class, cartItem.getCartItemId());
+        List<Long> choiceIds = Arrays.stream(saved.getOptionChoiceIds().split(",")).map(Long::valueOf).toList();
+        assertThat(menuOptionPricer.select(saved.getMenu(), choiceIds, saved.getOption()).price()).isEqualTo(700);
+        // 사장이 정한 그룹 구조(필수, 최대 1개)는 유지하고 빠진 선택지만 삭제
+        Map<String, Object> group = jdbcTemplate.queryForMap(
+                "SELECT name, is_required, max_select FROM menu_option_groups WHERE menu_id = ?", pasta.getMenuId());
+        assertThat(group.get("name")).isEqualTo("토핑");
+        assertThat(group.get("is_required")).isEqualTo(true);
+        assertThat(group.get("max_select")).isEqualTo(1);
+        assertThat(choices(pasta.getMenuId())).containsExactly("치즈추가:700");
+    }
+
+    @Test
+    void reportsInvalidAndDuplicateRows() {
+        MenuImportResponse result = menuImportService.importCsv(owner.getId(),
+                "menuName,price\n샐러드,abc\n샐러드,9000\n샐러드,9500\n,1000\n");
+
+        assertThat(result.inserted()).isEqualTo(1);
+        assertThat(result.errors()).extracting(MenuImportResponse.RowError::row).containsExactly(1, 3, 4);
+    }
+
+    private Map<String, Object> menu(Long menuId) {
+        return jdbcTemplate.queryForMap(
+                "SELECT picture, description, menu_option, category FROM menus WHERE menu_id = ?", menuId);
+    }
+
+    private List<String> choices(Long menuId) {
+        return jdbcTemplate.queryForList("""
+                SELECT CONCAT(c.name, ':', c.price) FROM menu_option_choices c
+                JOIN menu_option_groups g ON g.option_group_id = c.option_group_id
+                WHERE g.menu_id = ?
+                ORDER BY c.sort_order
+                """, String.class, menuId);
+    }
+}
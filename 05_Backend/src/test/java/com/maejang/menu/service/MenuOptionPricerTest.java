@@ -0,0 +1,83 @@
+package com.maejang.menu.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.maejang.global.exception.CustomException;
+import com.maejang.menu.domain.Menu;
+import com.maejang.menu.domain.MenuOptionChoice;
+import com.maejang.menu.domain.MenuOptionGroup;
+import com.maejang.user.domain.User;
+import com.maejang.user.domain.UserRole;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+/**
+ * 구 형식 option 문자열도 구조화된 그룹이 있으면 필수/최대 선택 개수 검증
+ */
+@DataJpaTest
+@Import({MenuOptionPricer.class, MenuCatalogCache.class, JacksonAutoConfiguration.class})
+class MenuOptionPricerTest {
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private MenuOptionPricer menuOptionPricer;
+
+    private Menu pasta;
+    private Menu legacy;
+
+    @BeforeEach
+    void setUp() {
+        User owner = em.persist(User.builder().email("owner@test.com").password("pw").role(UserRole.OWNER).name("사장").build());
+        MenuOptionGroup size = MenuOptionGroup.builder().name("사이즈").required(true).maxSelect(1).sortOrder(0).build();
+        size.addChoice(MenuOptionChoice.builder().name("보통").price(0).sortOrder(0).build());
+        size.addChoice(MenuOptionChoice.builder().name("곱빼기").price(2000).sortOrder(1).build());
+        MenuOptionGroup topping = MenuOptionGroup.builder().name("토핑").required(false).maxSelect(2).sortOrder(1).build();
+        topping.addChoice(MenuOptionChoice.builder().name("치즈추가").price(500).sortOrder(0).build());
+        pasta = Menu.builder().owner(owner).menuName("파스타").price(15000).option("보통+0,곱빼기+2000,치즈추가+500").build();
+        pasta.replaceOptionGroups(List.of(size, topping));
+        em.persist(pasta);
+        legacy = em.persist(Menu.builder().owner(owner).menuName("콜라").price(2000).option("제로+0,라지+500").build());
+        em.flush();
+        em.clear();
+    }
+
+    @Test
+    void resolvesLegacyLabelsToChoices() {
+        MenuOptionPricer.SelectedOptions selected = menuOptionPricer.select(pasta, null, "곱빼기, 치즈추가");
+
+        assertThat(selected.price()).isEqualTo(2500);
+        assertThat(selected.label()).isEqualTo("곱빼기,치즈추가");
+        assertThat(selected.choiceIds()).isNotNull();
+    }
+
+    @Test
+    void appliesGroupRulesToLegacyLabels() {
+        // 필수 그룹(사이즈) 누락
+        assertThatThrownBy(() -> menuOptionPricer.select(pasta, null, "치즈추가"))
+                .isInstanceOf(CustomException.class);
+        assertThatThrownBy(() -> menuOptionPricer.select(pasta, List.of(), null))
+                .isInstanceOf(CustomException.class);
+        // 사이즈는 최대 1개
+        assertThatThrownBy(() -> menuOptionPricer.select(pasta, null, "보통,곱빼기"))
+                .isInstanceOf(CustomException.class);
+        assertThatThrownBy(() -> menuOptionPricer.select(pasta, null, "보통,올리브"))
+                .isInstanceOf(CustomException.class);
+    }
+
+    @Test
+    void parsesLegacyStringWhenMenuHasNoGroups() {
+        MenuOptionPricer.SelectedOptions selected = menuOptionPricer.select(legacy, null, "라지");
+
+        assertThat(selected.price()).isEqualTo(500);
+        assertThat(selected.choiceIds()).isNull();
+    }
+}
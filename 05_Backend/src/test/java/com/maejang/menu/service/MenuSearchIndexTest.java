@@ -0,0 +1,128 @@
+package com.maejang.menu.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.maejang.menu.dto.response.MenuResponse;
+import com.maejang.menu.event.MenuChangedEvent;
+import com.maejang.menu.repository.MenuRepository;
+import com.maejang.store.repository.StoreRepository;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Limit;
+
+/**
+ * 메뉴 검색 역색인 (n-gram 후보 + 원문 확인, 필터, 이벤트 재색인)
+ */
+class MenuSearchIndexTest {
+
+    private static final Long OWNER_A = 1L;
+    private static final Long OWNER_B = 2L;
+    private static final Long STORE_A = 10L;
+
+    private final MenuRepository menuRepository = mock(MenuRepository.class);
+    private final StoreRepository storeRepository = mock(StoreRepository.class);
+    private final MenuSearchIndex index = new MenuSearchIndex(menuRepository, storeRepository);
+
+    @BeforeEach
+    void setUp() {
+        when(menuRepository.findResponsesAfter(anyLong(), any(Limit.class))).thenReturn(List.of(
+                menu(1L, OWNER_A, "불고기 피자", "달콤한 불고기 토핑", "피자"),
+                menu(2L, OWNER_A, "치즈-피자", "모차렐라 듬뿍", "피자"),
+                menu(3L, OWNER_A, "Coca Cola", null, "음료"),
+                menu(4L, OWNER_B, "불고기 버거", "수제 패티", "버거"),
+                menu(5L, OWNER_B, "고기 덮밥", null, "한식")));
+        when(storeRepository.findOwnerIdById(STORE_A)).thenReturn(Optional.of(OWNER_A));
+        when(storeRepository.findOwnerIdById(99L)).thenReturn(Optional.empty());
+        index.build();
+    }
+
+    @Test
+    void matchesPartialWordsWithoutSpaces() {
+        assertThat(ids(index.search("고기", null, null, 10))).containsExactly(1L, 4L, 5L);
+        assertThat(ids(index.search("불고", null, null, 10))).containsExactly(1L, 4L);
+    }
+
+    @Test
+    void normalizesPunctuationAndCase() {
+        assertThat(ids(index.search("치즈 피자", null, null, 10))).containsExactly(2L);
+        assertThat(ids(index.search("COLA", null, null, 10))).containsExactly(3L);
+    }
+
+    @Test
+    void singleCharacterQueryUsesUnigrams() {
+        assertThat(ids(index.search("피", null, null, 10))).containsExactly(1L, 2L);
+    }
+
+    @Test
+    void requiresEveryWord() {
+        assertThat(ids(index.search("불고기 피자", null, null, 10))).containsExactly(1L);
+        assertThat(ids(index.search("불고기 라면", null, null, 10))).isEmpty();
+    }
+
+    @Test
+    void doesNotMatchAcrossFieldBoundaries() {
+        // "버거"(메뉴명 끝) + "수제"(설명 시작)가 붙어서 "거수"로 일치하면 안 됨
+        assertThat(ids(index.search("거수", null, null, 10))).isEmpty();
+    }
+
+    @Test
+    void filtersByCategoryIgnoringCase() {
+        assertThat(ids(index.search(null, "피자", null, 10))).containsExactly(1L, 2L);
+        assertThat(ids(index.search("고기", "버거", null, 10))).containsExactly(4L);
+    }
+
+    @Test
+    void filtersByStore() {
+        assertThat(ids(index.search("고기", null, STORE_A, 10))).containsExactly(1L);
+        assertThat(index.search("고기", null, 99L, 10)).isEmpty();
+    }
+
+    @Test
+    void returnsNothingWithoutConditions() {
+        assertThat(index.search(null, null, null, 10)).isEmpty();
+        assertThat(index.search("  ", " ", null, 10)).isEmpty();
+    }
+
+    @Test
+    void stopsAtLimitInMenuIdOrder() {
+        List<MenuResponse> many = new ArrayList<>();
+        for (long id = 100; id > 0; id--) {
+            many.add(menu(1000 + id, 3L, "세트 메뉴 " + id, null, null));
+        }
+        when(menuRepository.findResponsesByOwnerId(3L)).thenReturn(many);
+        index.onMenuChanged(new MenuChangedEvent(3L));
+
+        assertThat(ids(index.search("세트", null, null, 5))).containsExactly(1001L, 1002L, 1003L, 1004L, 1005L);
+    }
+
+    @Test
+    void reindexesOwnerOnMenuChanged() {
+        when(menuRepository.findResponsesByOwnerId(OWNER_B)).thenReturn(List.of(
+                menu(4L, OWNER_B, "새우 버거", "수제 패티", "버거"),
+                menu(6L, OWNER_B, "불고기 라면", null, "한식")));
+        index.onMenuChanged(new MenuChangedEvent(OWNER_B));
+
+        // 수정된 메뉴는 새 이름으로, 삭제된 메뉴(5)는 더 이상 검색되지 않음
+        assertThat(ids(index.search("새우", null, null, 10))).containsExactly(4L);
+        assertThat(ids(index.search("불고기", null, null, 10))).containsExactly(1L, 6L);
+        assertThat(ids(index.search("덮밥", null, null, 10))).isEmpty();
+        assertThat(ids(index.search(null, "한식", null, 10))).containsExactly(6L);
+        // 다른 사장 메뉴는 그대로
+        assertThat(ids(index.search("치즈", null, null, 10))).containsExactly(2L);
+    }
+
+    private static MenuResponse menu(Long menuId, Long ownerId, String name, String description, String category) {
+        return new MenuResponse(menuId, ownerId, name, null, 10000, description, null, category);
+    }
+
+    private static List<Long> ids(List<MenuResponse> menus) {
+        return menus.stream().map(MenuResponse::menuId).toList();
+    }
+}
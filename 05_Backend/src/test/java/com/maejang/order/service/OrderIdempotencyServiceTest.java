@@ -0,0 +1,57 @@
+package com.maejang.order.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.maejang.global.exception.CustomException;
+import com.maejang.global.exception.ErrorCode;
+import com.maejang.order.dto.request.OrderCreateRequest;
+import com.maejang.order.dto.request.OrderCreateRequest.OrderItemRequest;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+/**
+ * 같은 Idempotency-Key 재요청 (같은 본문이면 최초 주문 id, 다른 본문이면 거절)
+ */
+class OrderIdempotencyServiceTest {
+
+    private final OrderIdempotencyService service = new OrderIdempotencyService(null, new ObjectMapper(), false);
+    private final AtomicLong nextOrderId = new AtomicLong(1);
+
+    @Test
+    void returnsFirstOrderForSameBody() {
+        Long first = service.execute(1L, "key-1", request(1L, 2), nextOrderId::getAndIncrement);
+        Long retried = service.execute(1L, "key-1", request(1L, 2), nextOrderId::getAndIncrement);
+
+        assertThat(retried).isEqualTo(first);
+        assertThat(nextOrderId.get()).isEqualTo(2);
+    }
+
+    @Test
+    void rejectsSameKeyWithDifferentBody() {
+        service.execute(1L, "key-1", request(1L, 2), nextOrderId::getAndIncrement);
+
+        assertThatThrownBy(() -> service.execute(1L, "key-1", request(1L, 3), nextOrderId::getAndIncrement))
+                .isInstanceOf(CustomException.class)
+                .extracting(e -> ((CustomException) e).getErrorCode())
+                .isEqualTo(ErrorCode.IDEMPOTENCY_KEY_REUSED);
+        assertThatThrownBy(() -> service.execute(1L, "key-1", request(2L, 2), nextOrderId::getAndIncrement))
+                .isInstanceOf(CustomException.class);
+        assertThat(nextOrderId.get()).isEqualTo(2);
+    }
+
+    @Test
+    void keysAreScopedPerUser() {
+        Long mine = service.execute(1L, "key-1", request(1L, 2), nextOrderId::getAndIncrement);
+        Long other = service.execute(2L, "key-1", request(1L, 3), nextOrderId::getAndIncrement);
+
+        assertThat(other).isNotEqualTo(mine);
+    }
+
+    private static OrderCreateRequest request(Long addressId, int count) {
+        return new OrderCreateRequest(10L, addressId, null,
+                List.of(new OrderItemRequest(100L, null, List.of(1000L), count)));
+    }
+}
@@ -0,0 +1,117 @@
+package com.maejang.order.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.maejang.menu.domain.Menu;
+import com.maejang.menu.service.MenuCatalogCache;
+import com.maejang.menu.service.MenuOptionPricer;
+import com.maejang.order.domain.Order;
+import com.maejang.order.domain.OrderMenu;
+import com.maejang.order.domain.OrderStatus;
+import com.maejang.order.dto.request.OrderPageRequest;
+import com.maejang.order.dto.response.OrderPageResponse;
+import com.maejang.order.dto.response.OrderResponse;
+import com.maejang.order.repository.OrderMenuBatchRepository;
+import com.maejang.store.domain.Store;
+import com.maejang.store.service.DeliveryEligibilityCache;
+import com.maejang.store.service.DeliveryZoneRegistry;
+import com.maejang.store.service.StoreOpenScheduler;
+import com.maejang.store.service.StoreOwnerCache;
+import com.maejang.store.service.StoreSpatialIndex;
+import com.maejang.user.domain.User;
+import com.maejang.user.domain.UserRole;
+import java.time.LocalDateTime;
+import java.util.function.Supplier;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+/**
+ * 주문 목록 + 품목 조회가 페이지 크기와 무관하게 고정된 쿼리 수로 끝나는지 확인 (N+1 회귀 방지)
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import({OrderService.class, OrderStreamService.class, OrderIdempotencyService.class, OrderMenuBatchRepository.class, MenuOptionPricer.class,
+        OrderDashboardService.class, MenuCatalogCache.class, StoreOwnerCache.class, StoreSpatialIndex.class, DeliveryEligibilityCache.class,
+        DeliveryZoneRegistry.class, StoreOpenScheduler.class, JacksonAutoConfiguration.class})
+class OrderServiceQueryCountTest {
+
+    private static final int ORDER_COUNT = 60;
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private StoreOwnerCache storeOwnerCache;
+
+    private Statistics statistics;
+    private User owner;
+
+    @BeforeEach
+    void setUp() {
+        statistics = em.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+
+        owner = em.persist(User.builder().email("owner@test.com").password("pw").role(UserRole.OWNER).name("사장").build());
+        User customer = em.persist(User.builder().email("customer@test.com").password("pw").role(UserRole.CUSTOMER).name("고객").build());
+        Store store = em.persist(Store.builder().owner(owner).storeName("테스트 가게").address("서울").open(true).build());
+        Menu pizza = em.persist(Menu.builder().owner(owner).menuName("피자").price(18000).build());
+        Menu cola = em.persist(Menu.builder().owner(owner).menuName("콜라").price(2000).build());
+
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < ORDER_COUNT; i++) {
+            Order order = em.persist(Order.builder()
+                    .user(customer)
+                    .store(store)
+                    .price(20000)
+                    .condition(OrderStatus.ORDERED)
+                    .orderAt(now.minusSeconds(i))
+                    .build());
+            em.persist(OrderMenu.builder().order(order).menu(pizza).count(1).build());
+            em.persist(OrderMenu.builder().order(order).menu(cola).option("제로").count(2).build());
+        }
+        em.flush();
+        em.clear();
+    }
+
+    @Test
+    void checkPageQueryCountDoesNotGrowWithPageSize() {
+        // 사장 -> 가게 id 캐시를 미리 채워서 주문/품목 조회 수만 비교
+        storeOwnerCache.storeIdOf(owner.getId());
+        long smallPageQueries = countQueries(() -> page(5));
+        long largePageQueries = countQueries(() -> page(50));
+
+        assertThat(largePageQueries).isEqualTo(smallPageQueries);
+    }
+
+    @Test
+    void checkPageIncludesLineItems() {
+        OrderPageResponse<OrderResponse> result = page(50);
+
+        assertThat(result.orders()).hasSize(50);
+        assertThat(result.nextCursor()).isNotNull();
+        assertThat(result.orders()).allSatisfy(o -> {
+            assertThat(o.items()).hasSize(2);
+            assertThat(o.items()).extracting("menuName").containsExactly("피자", "콜라");
+        });
+    }
+
+    private OrderPageResponse<OrderResponse> page(int size) {
+        return orderService.checkPageByOwner(owner.getId(), new OrderPageRequest(null, size, null, null, null));
+    }
+
+    private long countQueries(Supplier<?> action) {
+        em.clear();
+        statistics.clear();
+        action.get();
+        return statistics.getPrepareStatementCount();
+    }
+}